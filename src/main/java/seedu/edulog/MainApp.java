@@ -2,6 +2,8 @@ package seedu.edulog;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,6 +11,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.edulog.commons.core.Config;
 import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.core.StorageSettings;
 import seedu.edulog.commons.core.Version;
 import seedu.edulog.commons.exceptions.DataLoadingException;
 import seedu.edulog.commons.util.ConfigUtil;
@@ -22,12 +25,18 @@ import seedu.edulog.model.ReadOnlyEduLog;
 import seedu.edulog.model.ReadOnlyUserPrefs;
 import seedu.edulog.model.UserPrefs;
 import seedu.edulog.model.util.SampleDataUtil;
+import seedu.edulog.storage.BinaryEduLogStorage;
 import seedu.edulog.storage.EduLogStorage;
+import seedu.edulog.storage.EduLogStorageConverter;
+import seedu.edulog.storage.IndexedEduLogStorage;
+import seedu.edulog.storage.JournaledEduLogStorage;
 import seedu.edulog.storage.JsonEduLogStorage;
 import seedu.edulog.storage.JsonUserPrefsStorage;
+import seedu.edulog.storage.ShardedEduLogStorage;
 import seedu.edulog.storage.Storage;
 import seedu.edulog.storage.StorageManager;
 import seedu.edulog.storage.UserPrefsStorage;
+import seedu.edulog.storage.WriteBehindEduLogStorage;
 import seedu.edulog.ui.Ui;
 import seedu.edulog.ui.UiManager;
 
@@ -57,7 +66,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        EduLogStorage eduLogStorage = new JsonEduLogStorage(userPrefs.getEduLogFilePath());
+        EduLogStorage eduLogStorage = initEduLogStorage(userPrefs);
         storage = new StorageManager(eduLogStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +76,89 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code EduLogStorage} for the data file in {@code userPrefs}, saving changes as configured in its
+     * storage settings. The whole data file is saved in the background, as it can take long enough to stall the UI.
+     * <br>
+     * The binary and indexed formats are kept next to the JSON data file. The newest of the formats not in use is
+     * converted to the one in use if it was saved more recently, so that switching formats keeps the data. The same
+     * goes for the directory of shards kept next to the data file when sharding is enabled. Any journal left from an
+     * earlier session is saved into its data file before the data files are compared.
+     */
+    private EduLogStorage initEduLogStorage(ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        Path jsonFilePath = userPrefs.getEduLogFilePath();
+        EduLogStorage jsonStorage = new JsonEduLogStorage(jsonFilePath, storageSettings.isPrettyPrinted(),
+                storageSettings.isAtomicSaveEnabled(), storageSettings.getBackupCount());
+        EduLogStorage binaryStorage = new BinaryEduLogStorage(BinaryEduLogStorage.getBinaryFilePath(jsonFilePath),
+                storageSettings.isAtomicSaveEnabled(), storageSettings.getBackupCount());
+        EduLogStorage indexedStorage = new IndexedEduLogStorage(IndexedEduLogStorage.getIndexFilePath(jsonFilePath));
+
+        Path shardDirectoryPath = ShardedEduLogStorage.getShardDirectoryPath(jsonFilePath);
+        // the shards are only read when sharding is disabled, for which the shard count does not matter
+        EduLogStorage shardedStorage = new ShardedEduLogStorage(shardDirectoryPath,
+                storageSettings.isShardingEnabled() ? storageSettings.getShardCount() : 1);
+
+        for (EduLogStorage storage : List.of(jsonStorage, binaryStorage, indexedStorage, shardedStorage)) {
+            compactJournal(storage);
+        }
+
+        EduLogStorage dataFileStorage;
+        switch (storageSettings.getDataFileFormat()) {
+        case BINARY:
+            dataFileStorage = binaryStorage;
+            break;
+        case INDEXED:
+            dataFileStorage = indexedStorage;
+            break;
+        default:
+            dataFileStorage = jsonStorage;
+            break;
+        }
+        List<EduLogStorage> otherStorages = new ArrayList<>(List.of(jsonStorage, binaryStorage, indexedStorage));
+        otherStorages.remove(dataFileStorage);
+        convertDataFile(otherStorages, dataFileStorage);
+
+        if (storageSettings.isShardingEnabled()) {
+            convertDataFile(List.of(dataFileStorage), shardedStorage);
+            dataFileStorage = shardedStorage;
+        } else {
+            convertDataFile(List.of(shardedStorage), dataFileStorage);
+        }
+
+        if (storageSettings.isJournalEnabled()) {
+            return new JournaledEduLogStorage(dataFileStorage, storageSettings.getJournalCompactionThreshold());
+        }
+        return new WriteBehindEduLogStorage(dataFileStorage);
+    }
+
+    /**
+     * Saves any journal left next to the data file of {@code storage} into the data file, as only the journaled
+     * storage replays it and the storage settings may have changed since it was written. Failures are logged, leaving
+     * the data file and journal as they are.
+     */
+    private void compactJournal(EduLogStorage storage) {
+        try {
+            JournaledEduLogStorage.compactJournal(storage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not save journal of data file " + storage.getEduLogFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Converts the newest data file of {@code sources} to {@code target} if it is newer. Failures are logged, leaving
+     * {@code target} as it is.
+     */
+    private void convertDataFile(List<EduLogStorage> sources, EduLogStorage target) {
+        try {
+            EduLogStorageConverter.convertNewestIfNewer(sources, target);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert data file to " + target.getEduLogFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s edulog book and {@code userPrefs}. <br>
      * The data from the sample edulog book will be used instead if {@code storage}'s edulog book is not found,
@@ -177,6 +269,17 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping EduLog ] =============================");
+        try {
+            storage.flushEduLog();
+        } catch (IOException e) {
+            logger.warning("Failed to save data, saving it again " + StringUtil.getDetails(e));
+            try {
+                storage.saveEduLog(model.getEduLog());
+                storage.flushEduLog();
+            } catch (IOException retryException) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(retryException));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
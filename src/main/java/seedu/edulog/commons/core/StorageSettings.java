@@ -0,0 +1,181 @@
+package seedu.edulog.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.edulog.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings for how EduLog data is saved.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * Formats the EduLog data file can be saved in.
+     */
+    public enum DataFileFormat {
+        /** Human-readable JSON. */
+        JSON,
+        /** A compact binary format that is faster to load. */
+        BINARY,
+        /** An index of the students that loads quickly, with the details of each student read when first needed. */
+        INDEXED
+    }
+
+    public static final String MESSAGE_INVALID_JOURNAL_COMPACTION_THRESHOLD =
+            "Journal compaction threshold must be positive: %d";
+    public static final String MESSAGE_INVALID_BACKUP_COUNT = "Backup count must not be negative: %d";
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "Shard count must not be negative: %d";
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+    private static final int DEFAULT_BACKUP_COUNT = 2;
+    private static final DataFileFormat DEFAULT_DATA_FILE_FORMAT = DataFileFormat.JSON;
+    private static final int DEFAULT_SHARD_COUNT = 0;
+
+    private final boolean isJournalEnabled;
+    private final int journalCompactionThreshold;
+    private final boolean isAtomicSaveEnabled;
+    private final int backupCount;
+    private final DataFileFormat dataFileFormat;
+    private final boolean isPrettyPrinted;
+    private final int shardCount;
+
+    /**
+     * Constructs a {@code StorageSettings} that saves the whole data file as JSON atomically after every change.
+     */
+    public StorageSettings() {
+        isJournalEnabled = false;
+        journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+        isAtomicSaveEnabled = true;
+        backupCount = DEFAULT_BACKUP_COUNT;
+        dataFileFormat = DEFAULT_DATA_FILE_FORMAT;
+        isPrettyPrinted = true;
+        shardCount = DEFAULT_SHARD_COUNT;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified settings.
+     *
+     * @param isJournalEnabled whether changes are appended to a journal next to the data file, instead of saving
+     *     the whole data file after every change.
+     * @param journalCompactionThreshold the number of records the journal may hold before it is folded into the
+     *     data file.
+     * @param isAtomicSaveEnabled whether the data file is saved to a temporary file that then replaces it, so that
+     *     a crash while saving cannot leave it partly written.
+     * @param backupCount the number of previous versions of the data file kept when saving atomically.
+     * @param dataFileFormat the format the data file is saved in.
+     * @param isPrettyPrinted whether a JSON data file is indented for human readers. Compact files are smaller and
+     *     faster to save.
+     * @param shardCount the number of JSON files the students are split across in a directory next to the data
+     *     file, or 0 to keep all the data in the data file.
+     * @throws IllegalArgumentException if any of the counts is out of range.
+     */
+    public StorageSettings(boolean isJournalEnabled, int journalCompactionThreshold, boolean isAtomicSaveEnabled,
+            int backupCount, DataFileFormat dataFileFormat, boolean isPrettyPrinted, int shardCount) {
+        requireNonNull(dataFileFormat);
+        checkArgument(journalCompactionThreshold > 0,
+                String.format(MESSAGE_INVALID_JOURNAL_COMPACTION_THRESHOLD, journalCompactionThreshold));
+        checkArgument(backupCount >= 0, String.format(MESSAGE_INVALID_BACKUP_COUNT, backupCount));
+        checkArgument(shardCount >= 0, String.format(MESSAGE_INVALID_SHARD_COUNT, shardCount));
+        this.isJournalEnabled = isJournalEnabled;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.isAtomicSaveEnabled = isAtomicSaveEnabled;
+        this.backupCount = backupCount;
+        this.dataFileFormat = dataFileFormat;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.shardCount = shardCount;
+    }
+
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public boolean isAtomicSaveEnabled() {
+        return isAtomicSaveEnabled;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public boolean isPrettyPrinted() {
+        return isPrettyPrinted;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isShardingEnabled() {
+        return shardCount > 0;
+    }
+
+    /**
+     * Returns a copy of these settings with every value that is out of range replaced by its default.
+     * The fields of settings read from a file are filled in directly, without going through the constructor, so a
+     * file edited by hand can hold values the constructor would reject.
+     */
+    public StorageSettings withInvalidValuesReset() {
+        return new StorageSettings(isJournalEnabled,
+                journalCompactionThreshold > 0 ? journalCompactionThreshold : DEFAULT_JOURNAL_COMPACTION_THRESHOLD,
+                isAtomicSaveEnabled,
+                backupCount >= 0 ? backupCount : DEFAULT_BACKUP_COUNT,
+                dataFileFormat != null ? dataFileFormat : DEFAULT_DATA_FILE_FORMAT,
+                isPrettyPrinted,
+                shardCount >= 0 ? shardCount : DEFAULT_SHARD_COUNT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return isJournalEnabled == otherStorageSettings.isJournalEnabled
+                && journalCompactionThreshold == otherStorageSettings.journalCompactionThreshold
+                && isAtomicSaveEnabled == otherStorageSettings.isAtomicSaveEnabled
+                && backupCount == otherStorageSettings.backupCount
+                && dataFileFormat == otherStorageSettings.dataFileFormat
+                && isPrettyPrinted == otherStorageSettings.isPrettyPrinted
+                && shardCount == otherStorageSettings.shardCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isJournalEnabled, journalCompactionThreshold, isAtomicSaveEnabled, backupCount,
+                dataFileFormat, isPrettyPrinted, shardCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isJournalEnabled", isJournalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("isAtomicSaveEnabled", isAtomicSaveEnabled)
+                .add("backupCount", backupCount)
+                .add("dataFileFormat", dataFileFormat)
+                .add("isPrettyPrinted", isPrettyPrinted)
+                .add("shardCount", shardCount)
+                .toString();
+    }
+}
@@ -2,9 +2,14 @@ package seedu.edulog.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,26 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the zero-based positions of the elements in {@code items} whose identity, as extracted by
+     * {@code identity}, is the same as that of an earlier element. Returns an empty list if all identities are unique.
+     * The identities are compared using {@code equals} and {@code hashCode}, in a single pass over {@code items}.
+     */
+    public static <T> List<Integer> findDuplicatePositions(Collection<? extends T> items,
+                                                           Function<? super T, ?> identity) {
+        requireNonNull(items);
+        requireNonNull(identity);
+
+        Set<Object> seenIdentities = new HashSet<>(Math.max(16, (int) (items.size() / 0.75f) + 1));
+        List<Integer> duplicatePositions = new ArrayList<>();
+        int position = 0;
+        for (T item : items) {
+            if (!seenIdentities.add(identity.apply(item))) {
+                duplicatePositions.add(position);
+            }
+            position++;
+        }
+        return duplicatePositions;
+    }
 }
@@ -1,17 +1,34 @@
 package seedu.edulog.commons.util;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak.";
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Windows does not allow a file to be replaced while it is mapped, and it stays mapped until garbage collected. */
+    private static final boolean CAN_REPLACE_MAPPED_FILES = !System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +89,72 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns a stream of the contents of {@code file}, which is memory-mapped so that it is read straight from the
+     * operating system's page cache, without copying the whole file onto the heap. Falls back to a buffered stream on
+     * platforms where a mapped file cannot be replaced, and for files too large to map at once.
+     * Assumes file exists.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (CAN_REPLACE_MAPPED_FILES && size <= Integer.MAX_VALUE) {
+                // the mapping stays valid after the channel is closed
+                return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+        }
+        return new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a stream of the contents of {@code file} like {@link #openForReading(Path)}, decompressing them if the
+     * file is gzip-compressed, whatever its name.
+     * Assumes file exists.
+     */
+    public static InputStream openDecompressedForReading(Path file) throws IOException {
+        InputStream input = openForReading(file);
+        input.mark(2);
+        int magic = input.read() | (input.read() << 8);
+        input.reset();
+        if (magic == GZIPInputStream.GZIP_MAGIC) {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+        return input;
+    }
+
+    /**
+     * Returns true if files saved to {@code file} should be gzip-compressed, as shown by its name ending with
+     * {@link #COMPRESSED_FILE_EXTENSION}.
+     */
+    public static boolean isCompressedPath(Path file) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of a file next to {@code file} with the same name, but with its extension replaced by
+     * {@code extension}, or added if it has none.
+     */
+    public static Path replaceExtension(Path file, String extension) {
+        String fileName = file.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return file.resolveSibling(Paths.get(baseName + extension));
+    }
+
+    /**
+     * Returns a stream that writes to {@code file}, overwriting it if it exists, and compresses what is written with
+     * gzip if {@code isCompressed}. The data is compressed as it is written, so it is never held in memory whole.
+     * The stream is not buffered, other than by the compressor.
+     */
+    public static OutputStream openForWriting(Path file, boolean isCompressed) throws IOException {
+        OutputStream output = Files.newOutputStream(file);
+        if (isCompressed) {
+            return new GZIPOutputStream(output, BUFFER_SIZE);
+        }
+        return output;
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +163,175 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes {@code file} using {@code writer} such that a crash at any point leaves either its old or its new
+     * contents: the contents are written to a temporary file in the same directory and forced to the storage device,
+     * after which the temporary file replaces {@code file}. The old contents are kept as described in
+     * {@link #rotateBackups(Path, int)}.
+     *
+     * @param backupCount the number of previous versions of {@code file} to keep.
+     */
+    public static void writeAtomically(Path file, int backupCount, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try {
+            writer.write(tempFile);
+            sync(tempFile);
+            rotateBackups(file, backupCount);
+            moveAtomically(tempFile, file);
+        } finally {
+            // only left behind if writing failed
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that {@code file} is written to before it is moved into place.
+     * The temporary file is in the same directory, so that it can be moved atomically.
+     */
+    public static Path getTempFilePath(Path file) {
+        return Paths.get(file + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the {@code index}-th most recent backup of {@code file}, counting from 1.
+     */
+    public static Path getBackupFilePath(Path file, int index) {
+        return Paths.get(file + BACKUP_FILE_SUFFIX + index);
+    }
+
+    /**
+     * Forces the contents of {@code file} to be written to the storage device.
+     * Assumes file exists.
+     */
+    public static void sync(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Keeps the current contents of {@code file} as its most recent backup, shifting older backups along and deleting
+     * the oldest, so that at most {@code backupCount} backups are kept. Does nothing if {@code file} does not exist.
+     * {@code file} itself is left in place, as a hard link where the file system supports them.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int i = backupCount - 1; i >= 1; i--) {
+            Path backup = getBackupFilePath(file, i);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path latestBackup = getBackupFilePath(file, 1);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists, such that other processes and a
+     * crash at any point see either the old or the new contents of {@code target}. Falls back to a plain replacing
+     * move on file systems that cannot move files atomically.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncParentDir(target);
+    }
+
+    /**
+     * Forces the directory entries of the parent directory of {@code file} to be written to the storage device, so
+     * that a move into it survives a crash. Not every platform can do so, in which case nothing is done.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened on some platforms, such as Windows
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code file}, overwriting it if it exists.
+         */
+        void write(Path file) throws IOException;
+    }
+
+    /**
+     * A stream of the remaining bytes of a buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            buffer.mark();
+        }
+
+        @Override
+        public synchronized void reset() {
+            buffer.reset();
+        }
+    }
+
 }
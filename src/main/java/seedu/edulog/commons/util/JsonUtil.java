@@ -11,10 +11,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +42,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes values to a generator without flushing it after each one, leaving the buffering to the generator. */
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -92,6 +99,50 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser over the JSON tokens in {@code filePath}, which reads the file as the tokens are consumed
+     * instead of loading it whole, memory-mapping it where possible. A gzip-compressed file is decompressed as it is
+     * read. The file is closed when the parser is.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.openDecompressedForReading(filePath));
+    }
+
+    /**
+     * Reads the JSON value starting at the current token of {@code parser} into an instance of a class,
+     * leaving the parser at the last token of the value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Returns a generator writing JSON tokens to {@code filePath} through the generator's own buffer, instead of
+     * building the whole document in memory first. The file is overwritten if it exists, and closed when the
+     * generator is.
+     *
+     * @param isPrettyPrinted whether the output is indented for human readers.
+     * @param isCompressed whether the output is compressed with gzip as it is written.
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isPrettyPrinted, boolean isCompressed)
+            throws IOException {
+        requireNonNull(filePath);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(FileUtil.openForWriting(filePath, isCompressed));
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Writes {@code value} as JSON to {@code generator}, without flushing it.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        streamingWriter.writeValue(generator, value);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +162,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
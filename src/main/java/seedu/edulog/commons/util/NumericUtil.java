@@ -21,6 +21,6 @@ public class NumericUtil {
      */
     public static boolean isNumeric(String number) {
         String trimmedNumber = number.trim();
-        return trimmedNumber.matches(ONLY_NUMBER_REGEX);
+        return ValidationUtil.isDigits(trimmedNumber, 1, Integer.MAX_VALUE);
     }
 }
@@ -38,6 +38,20 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code text} with every character mapped to a single case, such that two strings are equal after folding
+     * if and only if they are equal according to {@link String#equalsIgnoreCase(String)}.
+     * Suitable for use as a case-insensitive key in hash-based collections.
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,75 @@
+package seedu.edulog.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the values of the model's fields.
+ * <br><br>
+ * {@code String#matches} compiles its regular expression on every call, which adds up when every field of every
+ * student in a large data file is validated. Value classes instead compile their regular expressions once into a
+ * {@code Pattern} and match against it here, and the simplest formats are checked by hand without a regular
+ * expression at all. The hand-written checks accept exactly what the equivalent regular expressions do, so
+ * {@code \d} and {@code \p{Alnum}} are ASCII-only here as they are in a {@code Pattern}.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code pattern}.
+     */
+    public static boolean matches(Pattern pattern, String test) {
+        requireNonNull(pattern);
+        requireNonNull(test);
+        return pattern.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} consists only of ASCII digits, with at least {@code minLength} and at most
+     * {@code maxLength} of them. Equivalent to the regular expression {@code \d{minLength,maxLength}}.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        requireNonNull(test);
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code test} is non-empty and consists only of ASCII letters and digits.
+     * Equivalent to the regular expression {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z');
+    }
+}
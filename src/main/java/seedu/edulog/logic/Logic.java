@@ -9,6 +9,7 @@ import seedu.edulog.logic.commands.exceptions.CommandException;
 import seedu.edulog.logic.parser.exceptions.ParseException;
 import seedu.edulog.model.ReadOnlyEduLog;
 import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.PaymentSummary;
 import seedu.edulog.model.student.Student;
 
 /**
@@ -37,6 +38,14 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of lessons */
     ObservableList<Lesson> getLessonList();
 
+    /** Returns the running payment totals of all students, which can be observed for changes */
+    PaymentSummary getPaymentSummary();
+
+    /**
+     * Returns the number of commands after which saving the EduLog was skipped, as they did not change it.
+     */
+    long getSkippedSaveCount();
+
     /**
      * Returns the user prefs' edulog book file path.
      */
@@ -16,6 +16,7 @@ import seedu.edulog.logic.parser.exceptions.ParseException;
 import seedu.edulog.model.Model;
 import seedu.edulog.model.ReadOnlyEduLog;
 import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.PaymentSummary;
 import seedu.edulog.model.student.Student;
 import seedu.edulog.storage.Storage;
 
@@ -34,6 +35,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final EduLogParser eduLogParser;
 
+    /** Modification count of the EduLog when it was last saved, or loaded if it has not been saved since. */
+    private long savedModificationCount;
+    private long skippedSaveCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -41,6 +46,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         eduLogParser = new EduLogParser();
+        savedModificationCount = model.getEduLog().getModificationCount();
     }
 
     @Override
@@ -51,8 +57,18 @@ public class LogicManager implements Logic {
         Command command = eduLogParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        ReadOnlyEduLog eduLog = model.getEduLog();
+        long modificationCount = eduLog.getModificationCount();
         try {
-            storage.saveEduLog(model.getEduLog());
+            if (modificationCount == savedModificationCount) {
+                skippedSaveCount++;
+                logger.fine("EduLog unchanged, skipping save (" + skippedSaveCount + " skipped so far)");
+                // an earlier save may still have failed in the background
+                storage.checkEduLogSaved();
+            } else {
+                storage.saveEduLog(eduLog);
+                savedModificationCount = modificationCount;
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -77,6 +93,16 @@ public class LogicManager implements Logic {
         return model.getLessonList();
     }
 
+    @Override
+    public PaymentSummary getPaymentSummary() {
+        return model.getPaymentSummary();
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getEduLogFilePath();
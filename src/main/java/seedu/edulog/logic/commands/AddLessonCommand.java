@@ -6,6 +6,9 @@ import static seedu.edulog.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.edulog.logic.parser.CliSyntax.PREFIX_START_DAY;
 import static seedu.edulog.logic.parser.CliSyntax.PREFIX_START_TIME;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.edulog.commons.util.ToStringBuilder;
 import seedu.edulog.logic.commands.exceptions.CommandException;
 import seedu.edulog.model.Model;
@@ -32,6 +35,7 @@ public class AddLessonCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New lesson added: %1$s";
     public static final String MESSAGE_DUPLICATE_LESSON = "This lesson already exists in the calendar";
+    public static final String MESSAGE_CLASHING_LESSONS = "Note: this lesson overlaps in time with %1$s";
 
     private final Lesson toAdd;
 
@@ -51,8 +55,16 @@ public class AddLessonCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_LESSON);
         }
 
+        List<Lesson> clashingLessons = model.findClashingLessons(toAdd);
         model.addLesson(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+
+        String feedback = String.format(MESSAGE_SUCCESS, toAdd);
+        if (!clashingLessons.isEmpty()) {
+            feedback += "\n" + String.format(MESSAGE_CLASHING_LESSONS, clashingLessons.stream()
+                    .map(lesson -> lesson.getDescription().description)
+                    .collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
@@ -34,11 +34,11 @@ public class DeleteLessonCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (isNull(model.findLesson(description))) {
+        Lesson lessonToDelete = model.findLesson(description);
+        if (isNull(lessonToDelete)) {
             throw new CommandException(MESSAGE_NONEXISTENT_LESSON);
         }
 
-        Lesson lessonToDelete = model.findLesson(description);
         model.removeLesson(lessonToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, lessonToDelete));
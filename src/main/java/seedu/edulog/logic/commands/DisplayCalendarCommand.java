@@ -1,6 +1,7 @@
 package seedu.edulog.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.edulog.model.Model.PREDICATE_SHOW_ALL_LESSONS;
 import static seedu.edulog.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
 import seedu.edulog.model.Model;
@@ -19,6 +20,7 @@ public class DisplayCalendarCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -103,18 +103,11 @@ public class EditCommand extends Command {
         Email updatedEmail = editStudentDescriptor.getEmail().orElse(studentToEdit.getEmail());
         Address updatedAddress = editStudentDescriptor.getAddress().orElse(studentToEdit.getAddress());
         Set<Tag> updatedTags = editStudentDescriptor.getTags().orElse(studentToEdit.getTags());
-        boolean hasPaid = editStudentDescriptor.getHasPaid();
         Fee fee = editStudentDescriptor.getFee().orElse(studentToEdit.getFee());
 
-        Student result = new Student(updatedName, updatedPhone, updatedEmail, updatedAddress,
-                updatedTags, hasPaid, fee);
-        if (studentToEdit.getHasPaid()) {
-            result.mark();
-        } else {
-            result.unmark();
-        }
-
-        return result;
+        // editing a student keeps their payment status
+        return new Student(updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedTags, studentToEdit.getHasPaid(), fee);
     }
 
     @Override
@@ -151,7 +144,6 @@ public class EditCommand extends Command {
         private Email email;
         private Address address;
         private Set<Tag> tags;
-        private boolean hasPaid;
         private Fee fee;
 
         public EditStudentDescriptor() {}
@@ -166,7 +158,6 @@ public class EditCommand extends Command {
             setEmail(toCopy.email);
             setAddress(toCopy.address);
             setTags(toCopy.tags);
-
             setFee(toCopy.fee);
         }
 
@@ -226,14 +217,6 @@ public class EditCommand extends Command {
             return (tags != null) ? Optional.of(Collections.unmodifiableSet(tags)) : Optional.empty();
         }
 
-        public void setHasPaid(boolean hasPaid) {
-            this.hasPaid = hasPaid;
-        }
-
-        public boolean getHasPaid() {
-            return hasPaid;
-        }
-
         public void setFee(Fee fee) {
             this.fee = fee;
         }
@@ -1,14 +1,22 @@
 package seedu.edulog.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import seedu.edulog.commons.util.ToStringBuilder;
 import seedu.edulog.logic.Messages;
 import seedu.edulog.model.Model;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.PaymentSummary;
 import seedu.edulog.model.student.StudentHasPaidPredicate;
+import seedu.edulog.model.tag.Tag;
 
 /**
- * Filters the students based on their payment status.
+ * Filters the students based on their payment status, or on their tags.
  */
 public class FilterCommand extends Command {
 
@@ -19,22 +27,50 @@ public class FilterCommand extends Command {
             + "The command parameter is case insensitive.\n"
             + "Parameter:  P\n"
             + "OR U\n"
-            + "Example: " + COMMAND_WORD + "paid";
+            + "Example: " + COMMAND_WORD + " paid\n"
+            + "Alternatively, filters the students by tag, listing those with any of the tags given in each "
+            + PREFIX_TAG + ", and with every " + PREFIX_TAG + " matched.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG [MORE_TAGS]... [" + PREFIX_TAG + "TAG [MORE_TAGS]...]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "math physics " + PREFIX_TAG + "sec3";
 
     public static final char PAID = 'p';
 
     public static final char UNPAID = 'u';
 
     private final StudentHasPaidPredicate predicate;
+    private final List<Set<Tag>> tagGroups;
 
+    /**
+     * Creates a FilterCommand to list the students matching the payment status of {@code predicate}.
+     */
     public FilterCommand(StudentHasPaidPredicate predicate) {
         this.predicate = predicate;
+        this.tagGroups = null;
+    }
+
+    /**
+     * Creates a FilterCommand to list the students with at least one tag from every group in {@code tagGroups}.
+     */
+    public FilterCommand(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        this.predicate = null;
+        this.tagGroups = tagGroups;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        if (tagGroups == null) {
+            // the partition of students with the payment status is already maintained, and so are its counts
+            model.showStudentsWithPaymentStatus(predicate.getValue());
+            PaymentSummary paymentSummary = model.getPaymentSummary();
+            int count = predicate.getValue() ? paymentSummary.getPaidCount() : paymentSummary.getUnpaidCount();
+            return new CommandResult(String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, count));
+        }
+
+        // the matching students are found from the tag index, instead of checking the tags of every student
+        Set<Name> matchingNames = model.findStudentNamesWithTags(tagGroups);
+        model.updateFilteredStudentList(student -> matchingNames.contains(student.getName()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
@@ -51,11 +87,17 @@ public class FilterCommand extends Command {
         }
 
         FilterCommand otherFilterCommand = (FilterCommand) other;
-        return predicate.equals(otherFilterCommand.predicate);
+        return Objects.equals(predicate, otherFilterCommand.predicate)
+                && Objects.equals(tagGroups, otherFilterCommand.tagGroups);
     }
 
     @Override
     public String toString() {
+        if (tagGroups != null) {
+            return new ToStringBuilder(this)
+                    .add("tagGroups", tagGroups)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
                 .toString();
@@ -2,34 +2,77 @@ package seedu.edulog.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import seedu.edulog.commons.util.ToStringBuilder;
 import seedu.edulog.logic.Messages;
 import seedu.edulog.model.Model;
+import seedu.edulog.model.student.Name;
 import seedu.edulog.model.student.NameContainsKeywordsPredicate;
+import seedu.edulog.model.student.Student;
 
 /**
  * Finds and lists all students in edulog book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. In approximate mode, names containing a word that starts with a keyword, or
+ * is within a few typos of one, are also listed, with the closest matches first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String APPROXIMATE_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + APPROXIMATE_FLAG + ", also finds names with words starting with, or a few typos away from, "
+            + "the keywords, closest matches first.\n"
+            + "Parameters: [" + APPROXIMATE_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + APPROXIMATE_FLAG + " alcie ber";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isApproximate;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand to find students matching the keywords of {@code predicate}, either exactly or,
+     * if {@code isApproximate}, by prefix or with typos.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isApproximate) {
         this.predicate = predicate;
+        this.isApproximate = isApproximate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        if (isApproximate) {
+            return executeApproximately(model);
+        }
+
+        // matches are looked up in the name index once, instead of splitting every name for every keyword
+        Set<Name> matchingNames = model.findStudentNamesContainingAnyWord(predicate.getKeywords());
+        model.updateFilteredStudentList(student -> matchingNames.contains(student.getName()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
+    }
+
+    private CommandResult executeApproximately(Model model) {
+        List<Name> rankedNames = model.findStudentNamesApproximately(predicate.getKeywords());
+        Map<Name, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedNames.size(); i++) {
+            ranks.put(rankedNames.get(i), i);
+        }
+
+        Comparator<Student> byRank = Comparator.comparingInt(student -> ranks.get(student.getName()));
+        model.updateFilteredStudentList(student -> ranks.containsKey(student.getName()), byRank);
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
@@ -46,13 +89,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isApproximate == otherFindCommand.isApproximate;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isApproximate", isApproximate)
                 .toString();
     }
 }
@@ -0,0 +1,100 @@
+package seedu.edulog.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_START_DAY;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.edulog.commons.util.ToStringBuilder;
+import seedu.edulog.logic.Messages;
+import seedu.edulog.model.Model;
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonTime;
+
+/**
+ * Finds and lists all lessons in the calendar taking place at a given time, or at any point within a given period.
+ */
+public class FindLessonCommand extends Command {
+
+    public static final String COMMAND_WORD = "findc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all lessons taking place at the specified "
+            + "time, or at any point between the specified start and end times, and displays them in the calendar.\n"
+            + "Parameters: "
+            + PREFIX_START_DAY + "DAY OF THE WEEK "
+            + PREFIX_START_TIME + "TIME (24H FORMAT) "
+            + "[" + PREFIX_END_TIME + "END TIME (24H FORMAT)]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START_DAY + "Tuesday "
+            + PREFIX_START_TIME + "1930";
+
+    private final Day day;
+    private final LessonTime startTime;
+    private final LessonTime endTime;
+
+    /**
+     * Creates a FindLessonCommand to find the lessons taking place at {@code time} on {@code day}.
+     */
+    public FindLessonCommand(Day day, LessonTime time) {
+        requireAllNonNull(day, time);
+        this.day = day;
+        this.startTime = time;
+        this.endTime = null;
+    }
+
+    /**
+     * Creates a FindLessonCommand to find the lessons taking place at any point from {@code startTime}
+     * on {@code day} to {@code endTime}.
+     */
+    public FindLessonCommand(Day day, LessonTime startTime, LessonTime endTime) {
+        requireAllNonNull(day, startTime, endTime);
+        this.day = day;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Lesson> lessonsFound = endTime == null
+                ? model.findLessonsAt(day, startTime)
+                : model.findLessonsWithin(day, startTime, endTime);
+
+        Set<Lesson> matches = new HashSet<>(lessonsFound);
+        model.updateFilteredLessonList(matches::contains);
+        return new CommandResult(String.format(Messages.MESSAGE_LESSONS_LISTED_OVERVIEW, lessonsFound.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindLessonCommand)) {
+            return false;
+        }
+
+        FindLessonCommand otherFindLessonCommand = (FindLessonCommand) other;
+        return day.equals(otherFindLessonCommand.day)
+                && startTime.equals(otherFindLessonCommand.startTime)
+                && Objects.equals(endTime, otherFindLessonCommand.endTime);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("day", day)
+                .add("startTime", startTime)
+                .add("endTime", endTime)
+                .toString();
+    }
+}
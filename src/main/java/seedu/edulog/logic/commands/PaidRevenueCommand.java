@@ -1,7 +1,6 @@
 package seedu.edulog.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.edulog.model.Model.PREDICATE_SHOW_PAID_STUDENTS;
 
 import seedu.edulog.commons.util.ToStringBuilder;
 import seedu.edulog.model.Model;
@@ -20,7 +19,7 @@ public class PaidRevenueCommand extends RevenueCommand {
         requireNonNull(model);
 
         int result = model.getPaid();
-        model.updateFilteredStudentList(PREDICATE_SHOW_PAID_STUDENTS);
+        model.showStudentsWithPaymentStatus(true);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, option, result));
     }
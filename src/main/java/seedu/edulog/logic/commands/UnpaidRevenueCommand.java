@@ -1,7 +1,6 @@
 package seedu.edulog.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.edulog.model.Model.PREDICATE_SHOW_UNPAID_STUDENTS;
 
 import seedu.edulog.commons.util.ToStringBuilder;
 import seedu.edulog.model.Model;
@@ -20,7 +19,7 @@ public class UnpaidRevenueCommand extends RevenueCommand {
         requireNonNull(model);
 
         int result = model.getUnpaid();
-        model.updateFilteredStudentList(PREDICATE_SHOW_UNPAID_STUDENTS);
+        model.showStudentsWithPaymentStatus(false);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, option, result));
     }
@@ -0,0 +1,108 @@
+package seedu.edulog.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.AppUtil.checkArgument;
+import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.edulog.logic.commands.AddCommand;
+import seedu.edulog.logic.commands.AddLessonCommand;
+import seedu.edulog.logic.commands.ClearCommand;
+import seedu.edulog.logic.commands.Command;
+import seedu.edulog.logic.commands.DeleteCommand;
+import seedu.edulog.logic.commands.DeleteLessonCommand;
+import seedu.edulog.logic.commands.DisplayCalendarCommand;
+import seedu.edulog.logic.commands.EditCommand;
+import seedu.edulog.logic.commands.ExitCommand;
+import seedu.edulog.logic.commands.FilterCommand;
+import seedu.edulog.logic.commands.FindCommand;
+import seedu.edulog.logic.commands.FindLessonCommand;
+import seedu.edulog.logic.commands.GiftCommand;
+import seedu.edulog.logic.commands.HelpCommand;
+import seedu.edulog.logic.commands.ListCommand;
+import seedu.edulog.logic.commands.MarkAllCommand;
+import seedu.edulog.logic.commands.MarkCommand;
+import seedu.edulog.logic.commands.RevenueCommand;
+import seedu.edulog.logic.commands.UnmarkAllCommand;
+import seedu.edulog.logic.commands.UnmarkCommand;
+
+/**
+ * Maps command words, and their aliases, to the parsers for their commands.
+ * Parsers are stateless, so each registered parser is created once and reused for every command parsed.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word is already registered: %s";
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command word must be non-empty and without spaces: %s";
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Returns a registry with every command of EduLog registered.
+     */
+    public static CommandRegistry withBuiltInCommands() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(MarkCommand.COMMAND_WORD, new MarkCommandParser());
+        registry.register(MarkAllCommand.COMMAND_WORD, arguments -> new MarkAllCommand());
+        registry.register(UnmarkCommand.COMMAND_WORD, new UnmarkCommandParser());
+        registry.register(UnmarkAllCommand.COMMAND_WORD, arguments -> new UnmarkAllCommand());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(AddLessonCommand.COMMAND_WORD, new AddLessonCommandParser());
+        registry.register(DeleteLessonCommand.COMMAND_WORD, new DeleteLessonCommandParser());
+        registry.register(FindLessonCommand.COMMAND_WORD, new FindLessonCommandParser());
+        registry.register(DisplayCalendarCommand.COMMAND_WORD, arguments -> new DisplayCalendarCommand());
+        registry.register(GiftCommand.COMMAND_WORD, arguments -> new GiftCommand());
+        registry.register(RevenueCommand.COMMAND_WORD, new RevenueCommandParser());
+        registry.register(FilterCommand.COMMAND_WORD, new FilterCommandParser());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} for commands starting with {@code commandWord} or any of {@code aliases}.
+     * {@code parser} must be stateless, as it is shared by every command parsed with it.
+     *
+     * @throws IllegalArgumentException if any of the words is empty, contains whitespace or is already registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        requireAllNonNull((Object[]) aliases);
+        List<String> words = new ArrayList<>();
+        words.add(commandWord);
+        words.addAll(Arrays.asList(aliases));
+
+        Set<String> newWords = new HashSet<>();
+        for (String word : words) {
+            checkArgument(!word.isEmpty() && word.chars().noneMatch(Character::isWhitespace),
+                    String.format(MESSAGE_INVALID_COMMAND_WORD, word));
+            checkArgument(!parsers.containsKey(word) && newWords.add(word),
+                    String.format(MESSAGE_DUPLICATE_COMMAND_WORD, word));
+        }
+        for (String word : words) {
+            parsers.put(word, parser);
+        }
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.edulog.logic.parser;
 
 import static seedu.edulog.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import seedu.edulog.logic.commands.FilterCommand;
 import seedu.edulog.logic.parser.exceptions.ParseException;
 import seedu.edulog.model.student.StudentHasPaidPredicate;
+import seedu.edulog.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FilterCommand object
@@ -22,6 +29,11 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        if (argMultimap.getPreamble().isEmpty()) {
+            return new FilterCommand(parseTagGroups(argMultimap.getAllValues(PREFIX_TAG)));
+        }
+
         boolean hasPaidStatus;
 
         char paymentStatus = Character.toLowerCase(trimmedArgs.charAt(0));
@@ -41,4 +53,20 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         return new FilterCommand(new StudentHasPaidPredicate(hasPaidStatus));
     }
 
+    /**
+     * Parses the values of each tag prefix into a group of tags separated by whitespace.
+     * @throws ParseException if a group is empty or contains an invalid tag
+     */
+    private static List<Set<Tag>> parseTagGroups(List<String> tagValues) throws ParseException {
+        List<Set<Tag>> tagGroups = new ArrayList<>(tagValues.size());
+        for (String tagValue : tagValues) {
+            if (tagValue.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+            }
+            tagGroups.add(ParserUtil.parseTags(Arrays.asList(tagValue.split("\\s+"))));
+        }
+        return tagGroups;
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.edulog.logic.parser;
 import static seedu.edulog.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.edulog.logic.commands.FindCommand;
 import seedu.edulog.logic.parser.exceptions.ParseException;
@@ -25,9 +26,19 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        // names cannot contain '-', so the flag cannot be mistaken for a keyword
+        boolean isApproximate = nameKeywords.get(0).equals(FindCommand.APPROXIMATE_FLAG);
+        if (isApproximate) {
+            nameKeywords = nameKeywords.subList(1, nameKeywords.size());
+        }
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords), isApproximate);
     }
 
 }
@@ -0,0 +1,48 @@
+package seedu.edulog.logic.parser;
+
+import static seedu.edulog.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_START_DAY;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.util.List;
+
+import seedu.edulog.logic.commands.FindLessonCommand;
+import seedu.edulog.logic.parser.exceptions.ParseException;
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.LessonTime;
+
+/**
+ * Parses input arguments and creates a new FindLessonCommand object
+ */
+public class FindLessonCommandParser implements Parser<FindLessonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindLessonCommand
+     * and returns a FindLessonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindLessonCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_START_DAY, PREFIX_START_TIME, PREFIX_END_TIME);
+
+        if (argMultimap.getValue(PREFIX_START_DAY).isEmpty() || argMultimap.getValue(PREFIX_START_TIME).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DAY, PREFIX_START_TIME, PREFIX_END_TIME);
+        Day day = ParserUtil.parseDayOfWeek(argMultimap.getValue(PREFIX_START_DAY).get());
+
+        if (argMultimap.getValue(PREFIX_END_TIME).isEmpty()) {
+            LessonTime time = ParserUtil.parseLessonTime(argMultimap.getValue(PREFIX_START_TIME).get());
+            return new FindLessonCommand(day, time);
+        }
+
+        List<LessonTime> times = ParserUtil.parseLessonTimes(
+            argMultimap.getValue(PREFIX_START_TIME).get(),
+            argMultimap.getValue(PREFIX_END_TIME).get()
+        );
+        return new FindLessonCommand(day, times.get(0), times.get(1));
+    }
+}
@@ -179,6 +179,21 @@ public class ParserUtil {
         return new Day(day);
     }
 
+    /**
+     * Parses a String representing a 24-hour time format into a {@code LessonTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the time provided is not a 24-hour time format like "1200" or "2359" without spaces.
+     */
+    public static LessonTime parseLessonTime(String time) throws ParseException {
+        requireNonNull(time);
+        String trimmedTime = time.trim();
+        if (!LessonTime.checkValidLessonTime(trimmedTime)) {
+            throw new ParseException(LessonTime.NOT_24H_FORMAT);
+        }
+        return new LessonTime(trimmedTime);
+    }
+
     /**
      * Parses 2 string representing a 24-hour time format, meant to denote the start and end time of a lesson.
      * Leading and trailing whitespaces will be trimmed.
@@ -2,14 +2,19 @@ package seedu.edulog.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.edulog.commons.util.ToStringBuilder;
 import seedu.edulog.model.calendar.EdulogCalendar;
 import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.PaymentSummary;
 import seedu.edulog.model.student.Student;
 import seedu.edulog.model.student.UniqueStudentList;
+import seedu.edulog.model.tag.Tag;
 
 /**
  * Wraps all data at the edulog-book level
@@ -114,18 +119,14 @@ public class EduLog implements ReadOnlyEduLog {
      */
     public void markStudent(Student student) {
         requireNonNull(student);
-        student.mark();
-        setStudent(student, student);
+        setStudent(student, student.withPaymentStatus(true));
     }
 
     /**
      * Marks all students as paid.
      */
     public void markAllStudents() {
-        students.forEach(Student::mark);
-        for (Student student : students) {
-            setStudent(student, student);
-        }
+        students.updateStudents(student -> !student.getHasPaid(), student -> student.withPaymentStatus(true));
     }
 
     /**
@@ -135,40 +136,57 @@ public class EduLog implements ReadOnlyEduLog {
      */
     public void unmarkStudent(Student student) {
         requireNonNull(student);
-        student.unmark();
-        setStudent(student, student);
+        setStudent(student, student.withPaymentStatus(false));
     }
 
     /**
      * Marks all students as unpaid.
      */
     public void unmarkAllStudents() {
-        students.forEach(Student::unmark);
-        for (Student student : students) {
-            setStudent(student, student);
-        }
+        students.updateStudents(Student::getHasPaid, student -> student.withPaymentStatus(false));
+    }
+
+    /**
+     * Returns the running payment totals of the students in the edulog book.
+     */
+    public PaymentSummary getPaymentSummary() {
+        return students.getPaymentSummary();
+    }
+
+    /**
+     * Returns the names of students containing any of {@code words} as a full word, ignoring case.
+     */
+    public Set<Name> findStudentNamesContainingAnyWord(Collection<String> words) {
+        return students.getNameTokenIndex().findNamesContainingAnyWord(words);
+    }
+
+    /**
+     * Returns the names of students starting with, or within a few typos of, any of {@code words}, ignoring case,
+     * best matches first.
+     */
+    public List<Name> findStudentNamesApproximately(Collection<String> words) {
+        return students.getNameTokenIndex().findNamesApproximately(words);
+    }
+
+    /**
+     * Returns the names of students with at least one tag from every group in {@code tagGroups}.
+     */
+    public Set<Name> findStudentNamesWithTags(Collection<? extends Collection<Tag>> tagGroups) {
+        return students.getTagIndex().findNamesMatching(tagGroups);
     }
 
     /**
      * Get total money earned
      */
     public int getPaid() {
-        int sum = 0;
-        for (Student student : students) {
-            sum += (student.getHasPaid()) ? student.getFee().value : 0;
-        }
-        return sum;
+        return students.getPaymentSummary().getPaidTotal();
     }
 
     /**
      * Get total money owed
      */
     public int getUnpaid() {
-        int sum = 0;
-        for (Student student : students) {
-            sum += (!student.getHasPaid()) ? student.getFee().value : 0;
-        }
-        return sum;
+        return students.getPaymentSummary().getUnpaidTotal();
     }
 
     // ------------------ lesson-level operations -----------------------
@@ -214,6 +232,11 @@ public class EduLog implements ReadOnlyEduLog {
         return edulogCalendar.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return students.getModificationCount() + edulogCalendar.getModificationCount();
+    }
+
     /**
      * Advanced getter function to obtain the entire calendar with more advanced validators.
      */
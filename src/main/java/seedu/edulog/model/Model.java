@@ -1,14 +1,22 @@
 package seedu.edulog.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.edulog.commons.core.GuiSettings;
+import seedu.edulog.model.calendar.Day;
 import seedu.edulog.model.calendar.Description;
 import seedu.edulog.model.calendar.EdulogCalendar;
 import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonTime;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.PaymentSummary;
 import seedu.edulog.model.student.Student;
+import seedu.edulog.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -23,6 +31,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Student> PREDICATE_SHOW_UNPAID_STUDENTS = student -> !student.getHasPaid();
 
+    /** {@code Predicate} that always evaluate to true */
+    Predicate<Lesson> PREDICATE_SHOW_ALL_LESSONS = unused -> true;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -104,6 +115,28 @@ public interface Model {
      */
     int getUnpaid();
 
+    /**
+     * Returns the running payment totals of all students, which can be observed for changes.
+     */
+    PaymentSummary getPaymentSummary();
+
+    /**
+     * Returns the names of students containing any of {@code keywords} as a full word, ignoring case.
+     */
+    Set<Name> findStudentNamesContainingAnyWord(List<String> keywords);
+
+    /**
+     * Returns the names of students starting with, or within a few typos of, any of {@code keywords}, ignoring case,
+     * best matches first.
+     */
+    List<Name> findStudentNamesApproximately(List<String> keywords);
+
+    /**
+     * Returns the names of students with at least one tag from every group in {@code tagGroups}, i.e. the tags within
+     * a group are combined with OR, and the groups with AND.
+     */
+    Set<Name> findStudentNamesWithTags(List<Set<Tag>> tagGroups);
+
     /**
      * Adds the given student.
      * {@code student} must not already exist in the address book.
@@ -139,6 +172,23 @@ public interface Model {
      */
     void removeLesson(Lesson lesson);
 
+    /**
+     * Returns the lessons in the calendar, other than one with the same description as {@code lesson},
+     * that overlap in time with {@code lesson}.
+     */
+    List<Lesson> findClashingLessons(Lesson lesson);
+
+    /**
+     * Returns the lessons taking place at {@code time} on {@code day}.
+     */
+    List<Lesson> findLessonsAt(Day day, LessonTime time);
+
+    /**
+     * Returns the lessons taking place at any point from {@code startTime} on {@code day} to {@code endTime}.
+     * An end time earlier than the start time falls on the following day.
+     */
+    List<Lesson> findLessonsWithin(Day day, LessonTime startTime, LessonTime endTime);
+
     /**
      * Returns edulog calendar.
      */
@@ -155,4 +205,25 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
+
+    /**
+     * Updates the filter of the filtered student list to filter by the given {@code predicate}, and orders the
+     * students shown by {@code comparator}. Calling {@link #updateFilteredStudentList(Predicate)} restores the
+     * original order.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator);
+
+    /**
+     * Shows only the students who have paid if {@code hasPaid}, or only those who have not otherwise, in the filtered
+     * student list. The list keeps showing students with that payment status as students are marked and unmarked,
+     * until the filter is next updated.
+     */
+    void showStudentsWithPaymentStatus(boolean hasPaid);
+
+    /**
+     * Updates the filter of the lesson list to filter by the given {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredLessonList(Predicate<Lesson> predicate);
 }
@@ -4,17 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.edulog.commons.core.GuiSettings;
 import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.model.calendar.Day;
 import seedu.edulog.model.calendar.Description;
 import seedu.edulog.model.calendar.EdulogCalendar;
 import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonTime;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.PaymentSummary;
 import seedu.edulog.model.student.Student;
+import seedu.edulog.model.tag.Tag;
+import seedu.edulog.model.util.SwitchableObservableList;
 
 /**
  * Represents the in-memory model of all data, inclusive of both the student and lesson list.
@@ -25,6 +35,10 @@ public class ModelManager implements Model {
     private final EduLog eduLog;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final SortedList<Student> sortedStudents;
+    private final FilteredList<Student> paidStudents;
+    private final FilteredList<Student> unpaidStudents;
+    private final SwitchableObservableList<Student> shownStudents;
     private final FilteredList<Lesson> lessons;
 
     /**
@@ -39,6 +53,12 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
 
         filteredStudents = new FilteredList<>(this.eduLog.getStudentList());
+        sortedStudents = new SortedList<>(filteredStudents);
+        // the partitions are updated incrementally as students are marked and unmarked, so showing either of them
+        // does not filter the whole list again
+        paidStudents = new FilteredList<>(this.eduLog.getStudentList(), PREDICATE_SHOW_PAID_STUDENTS);
+        unpaidStudents = new FilteredList<>(this.eduLog.getStudentList(), PREDICATE_SHOW_UNPAID_STUDENTS);
+        shownStudents = new SwitchableObservableList<>(sortedStudents);
         lessons = new FilteredList<>(this.eduLog.getLessonList());
     }
 
@@ -154,6 +174,29 @@ public class ModelManager implements Model {
         return eduLog.getUnpaid();
     }
 
+    @Override
+    public PaymentSummary getPaymentSummary() {
+        return eduLog.getPaymentSummary();
+    }
+
+    @Override
+    public Set<Name> findStudentNamesContainingAnyWord(List<String> keywords) {
+        requireNonNull(keywords);
+        return eduLog.findStudentNamesContainingAnyWord(keywords);
+    }
+
+    @Override
+    public List<Name> findStudentNamesApproximately(List<String> keywords) {
+        requireNonNull(keywords);
+        return eduLog.findStudentNamesApproximately(keywords);
+    }
+
+    @Override
+    public Set<Name> findStudentNamesWithTags(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return eduLog.findStudentNamesWithTags(tagGroups);
+    }
+
     @Override
     public void addStudent(Student student) {
         eduLog.addStudent(student);
@@ -193,6 +236,24 @@ public class ModelManager implements Model {
         eduLog.getEdulogCalendar().removeLesson(lesson);
     }
 
+    @Override
+    public List<Lesson> findClashingLessons(Lesson lesson) {
+        requireNonNull(lesson);
+        return eduLog.getEdulogCalendar().findClashingLessons(lesson);
+    }
+
+    @Override
+    public List<Lesson> findLessonsAt(Day day, LessonTime time) {
+        requireAllNonNull(day, time);
+        return eduLog.getEdulogCalendar().findLessonsAt(day, time);
+    }
+
+    @Override
+    public List<Lesson> findLessonsWithin(Day day, LessonTime startTime, LessonTime endTime) {
+        requireAllNonNull(day, startTime, endTime);
+        return eduLog.getEdulogCalendar().findLessonsWithin(day, startTime, endTime);
+    }
+
     public EdulogCalendar getEdulogCalendar() {
         return eduLog.getEdulogCalendar();
     }
@@ -205,7 +266,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return shownStudents;
     }
 
     /**
@@ -221,6 +282,27 @@ public class ModelManager implements Model {
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
         filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(null);
+        shownStudents.setSource(sortedStudents);
+    }
+
+    @Override
+    public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(comparator);
+        shownStudents.setSource(sortedStudents);
+    }
+
+    @Override
+    public void showStudentsWithPaymentStatus(boolean hasPaid) {
+        shownStudents.setSource(hasPaid ? paidStudents : unpaidStudents);
+    }
+
+    @Override
+    public void updateFilteredLessonList(Predicate<Lesson> predicate) {
+        requireNonNull(predicate);
+        lessons.setPredicate(predicate);
     }
 
     @Override
@@ -237,7 +319,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return eduLog.equals(otherModelManager.eduLog)
             && userPrefs.equals(otherModelManager.userPrefs)
-            && filteredStudents.equals(otherModelManager.filteredStudents);
+            && shownStudents.equals(otherModelManager.shownStudents);
     }
 
 }
@@ -20,4 +20,10 @@ public interface ReadOnlyEduLog {
      * This list will not contain any duplicate lessons, as validated by the call to hasLesson before addLesson.
      */
     ObservableList<Lesson> getLessonList();
+
+    /**
+     * Returns the number of times the students or lessons have been changed.
+     * The count only ever increases, so an unchanged count means no changes were made in between.
+     */
+    long getModificationCount();
 }
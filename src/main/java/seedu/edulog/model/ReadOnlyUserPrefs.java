@@ -3,6 +3,7 @@ package seedu.edulog.model;
 import java.nio.file.Path;
 
 import seedu.edulog.commons.core.GuiSettings;
+import seedu.edulog.commons.core.StorageSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getEduLogFilePath();
 
+    StorageSettings getStorageSettings();
+
 }
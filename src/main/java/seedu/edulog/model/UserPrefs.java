@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.edulog.commons.core.GuiSettings;
+import seedu.edulog.commons.core.StorageSettings;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path eduLogFilePath = Paths.get("data" , "edulog.json");
+    private StorageSettings storageSettings = new StorageSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setEduLogFilePath(newUserPrefs.getEduLogFilePath());
+        setStorageSettings(newUserPrefs.getStorageSettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +59,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.eduLogFilePath = eduLogFilePath;
     }
 
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +81,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && eduLogFilePath.equals(otherUserPrefs.eduLogFilePath);
+                && eduLogFilePath.equals(otherUserPrefs.eduLogFilePath)
+                && storageSettings.equals(otherUserPrefs.storageSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, eduLogFilePath);
+        return Objects.hash(guiSettings, eduLogFilePath, storageSettings);
     }
 
     @Override
@@ -82,6 +95,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + eduLogFilePath);
+        sb.append("\nStorage Settings : " + storageSettings);
         return sb.toString();
     }
 
@@ -77,7 +77,12 @@ public class Description {
 
     @Override
     public int hashCode() {
-        return description.hashCode();
+        // Folds each character the same way String#equalsIgnoreCase does, so that equal descriptions hash alike.
+        int hash = 0;
+        for (int i = 0; i < description.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(description.charAt(i)));
+        }
+        return hash;
     }
 
 }
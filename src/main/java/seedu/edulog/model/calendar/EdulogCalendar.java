@@ -1,9 +1,13 @@
 package seedu.edulog.model.calendar;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.CollectionUtil.findDuplicatePositions;
 import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -12,14 +16,29 @@ import seedu.edulog.model.calendar.exceptions.LessonNotFoundException;
 
 /**
  * Calendar class
+ *
+ * Lessons are indexed by the position of their {@code Description} in the list so that lookups, duplicate checks,
+ * edits and removals do not have to scan the list, and by their weekly time slot so that clashes can be found without
+ * scanning either. The indexes are kept in step with the list by routing every mutation through this class, which is
+ * why {@link #getLessonList()} only hands out an unmodifiable view.
  */
 public class EdulogCalendar {
     private final ObservableList<Lesson> lessons = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(lessons);
 
+    /**
+     * Position of each lesson in {@code lessons}, keyed by the lesson's description.
+     * Updated before {@code lessons} is changed, so that listeners always see a consistent index.
+     */
+    private final Map<Description, Integer> positionIndex = new HashMap<>();
+    private final LessonIntervalIndex timeSlotIndex = new LessonIntervalIndex();
+
+    /** Number of times the calendar has been changed, so callers can tell whether it changed since they last looked. */
+    private long modificationCount;
+
     public ObservableList<Lesson> getLessonList() {
-        return lessons;
+        return internalUnmodifiableList;
     }
 
     /**
@@ -27,7 +46,7 @@ public class EdulogCalendar {
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return lessons.stream().anyMatch(toCheck::isSameLesson);
+        return positionIndex.containsKey(toCheck.getDescription());
     }
 
     /**
@@ -39,6 +58,9 @@ public class EdulogCalendar {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
+        positionIndex.put(toAdd.getDescription(), lessons.size());
+        timeSlotIndex.add(toAdd);
+        modificationCount++;
         lessons.add(toAdd);
     }
 
@@ -48,51 +70,85 @@ public class EdulogCalendar {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!lessons.remove(toRemove)) {
+        if (!removeIfPresent(toRemove)) {
             throw new LessonNotFoundException();
         }
     }
 
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
-        }
+        requireLessonsAreUnique(lessons);
 
+        positionIndex.clear();
+        for (int i = 0; i < lessons.size(); i++) {
+            positionIndex.put(lessons.get(i).getDescription(), i);
+        }
+        rebuildTimeSlotIndex(lessons);
+        modificationCount++;
         this.lessons.setAll(lessons);
     }
 
     public void setLessons(EdulogCalendar edulogCalendar) {
-        if (!lessonsAreUnique(edulogCalendar.lessons)) {
-            throw new DuplicateLessonException();
-        }
-
         requireNonNull(edulogCalendar);
+
+        positionIndex.clear();
+        positionIndex.putAll(edulogCalendar.positionIndex);
+        rebuildTimeSlotIndex(edulogCalendar.lessons);
+        modificationCount++;
         lessons.setAll(edulogCalendar.lessons);
     }
 
     /**
-     * Add a new lesson to Calendar
+     * Add a new lesson to Calendar.
+     * The lesson must not already exist in the calendar.
      */
     public void addLesson(Lesson lesson) {
-        lessons.add(lesson);
+        add(lesson);
     }
 
     /**
      * Checks if a provided lesson is equal (based on description) to any other lesson in the calendar.
      */
     public boolean hasLesson(Lesson lesson) {
-        return lessons.stream().anyMatch(l -> l.isSameLesson(lesson));
+        return contains(lesson);
     }
 
     /**
      * Find a lesson in the calendar based on its description
      */
     public Lesson findLesson(Description description) {
-        return lessons.stream()
-            .filter(lesson -> lesson.isDescription(description))
-            .findFirst()
-            .orElse(null);
+        Integer index = positionIndex.get(description);
+        return index == null ? null : lessons.get(index);
+    }
+
+    /**
+     * Returns the lessons taking place at the given time of the week.
+     */
+    public List<Lesson> findLessonsAt(Day day, LessonTime time) {
+        requireAllNonNull(day, time);
+        return timeSlotIndex.findAt(LessonIntervalIndex.toMinuteOfWeek(day, time));
+    }
+
+    /**
+     * Returns the lessons taking place at any point from {@code startTime} on {@code day} to {@code endTime}.
+     * As with lessons, an end time earlier than the start time is taken to fall on the following day.
+     */
+    public List<Lesson> findLessonsWithin(Day day, LessonTime startTime, LessonTime endTime) {
+        requireAllNonNull(day, startTime, endTime);
+        int duration = endTime.getMinuteOfDay() - startTime.getMinuteOfDay();
+        if (duration <= 0) {
+            duration += LessonIntervalIndex.MINUTES_PER_DAY;
+        }
+        return timeSlotIndex.findOverlapping(LessonIntervalIndex.toMinuteOfWeek(day, startTime), duration);
+    }
+
+    /**
+     * Returns the lessons in the calendar, other than one with the same description as {@code lesson},
+     * whose time slots overlap that of {@code lesson}.
+     */
+    public List<Lesson> findClashingLessons(Lesson lesson) {
+        requireNonNull(lesson);
+        return timeSlotIndex.findClashes(lesson);
     }
 
     /**
@@ -103,7 +159,7 @@ public class EdulogCalendar {
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
-        int index = lessons.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new LessonNotFoundException();
         }
@@ -112,14 +168,58 @@ public class EdulogCalendar {
             throw new DuplicateLessonException();
         }
 
+        positionIndex.remove(target.getDescription());
+        positionIndex.put(editedLesson.getDescription(), index);
+        timeSlotIndex.remove(target);
+        timeSlotIndex.add(editedLesson);
+        modificationCount++;
         lessons.set(index, editedLesson);
     }
 
     /**
-     * Remove the 1st index in lessons that returns true on Object.equals(lesson, lessons.get(i))
+     * Removes {@code lesson} from the calendar if it is present; does nothing otherwise.
      */
     public void removeLesson(Lesson lesson) {
-        lessons.remove(lesson);
+        removeIfPresent(lesson);
+    }
+
+    /**
+     * Removes {@code lesson} from the calendar, returning true if it was present.
+     */
+    private boolean removeIfPresent(Lesson lesson) {
+        int index = indexOf(lesson);
+        if (index == -1) {
+            return false;
+        }
+        positionIndex.remove(lesson.getDescription());
+        for (int i = index + 1; i < lessons.size(); i++) {
+            positionIndex.put(lessons.get(i).getDescription(), i - 1);
+        }
+        timeSlotIndex.remove(lesson);
+        modificationCount++;
+        lessons.remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the position of {@code target} in the list, or -1 if it is not in the list.
+     * As with {@code List#indexOf(Object)}, the lesson at that position must be equal to {@code target}.
+     */
+    private int indexOf(Lesson target) {
+        Integer index = positionIndex.get(target.getDescription());
+        return index != null && lessons.get(index).equals(target) ? index : -1;
+    }
+
+    /**
+     * Returns the number of times this calendar has been changed since it was created.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    private void rebuildTimeSlotIndex(List<Lesson> lessons) {
+        timeSlotIndex.clear();
+        lessons.forEach(timeSlotIndex::add);
     }
 
     @Override
@@ -133,17 +233,15 @@ public class EdulogCalendar {
     }
 
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Throws a {@code DuplicateLessonException} naming the offending lessons
+     * if {@code lessons} contains lessons with the same description.
      */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
-            }
+    private void requireLessonsAreUnique(List<Lesson> lessons) {
+        List<Integer> duplicatePositions = findDuplicatePositions(lessons, Lesson::getDescription);
+        if (!duplicatePositions.isEmpty()) {
+            throw new DuplicateLessonException(
+                    duplicatePositions.stream().map(lessons::get).collect(Collectors.toList()));
         }
-        return true;
     }
 
     /**
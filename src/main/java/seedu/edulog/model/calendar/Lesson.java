@@ -72,6 +72,21 @@ public class Lesson {
         return endTime.getFormattedTime();
     }
 
+    /**
+     * Returns the number of minutes from the start of the week (Monday 0000) to the start of this lesson.
+     */
+    public int getStartMinuteOfWeek() {
+        return LessonIntervalIndex.toMinuteOfWeek(startDay, startTime);
+    }
+
+    /**
+     * Returns the length of this lesson in minutes, accounting for lessons that go past midnight.
+     */
+    public int getDurationInMinutes() {
+        int duration = endTime.getMinuteOfDay() - startTime.getMinuteOfDay();
+        return spansTwoDays() ? duration + LessonIntervalIndex.MINUTES_PER_DAY : duration;
+    }
+
     // Validator methods ===========================================================================================
 
     /**
@@ -0,0 +1,252 @@
+package seedu.edulog.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.AppUtil.checkArgument;
+import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Indexes lessons by the time slot they occupy in the week, so that overlap queries such as
+ * "what is on at Tuesday 1930" or "does this new lesson clash" take O(log n + k) time instead of a linear scan.
+ * <br><br>
+ * Times are measured in minutes from Monday 0000, in the range [0, {@link #MINUTES_PER_WEEK}). Since lessons recur
+ * weekly, a lesson that starts late on Sunday and goes past midnight wraps around to Monday morning. Such a lesson is
+ * stored as two intervals, one at the end of the week and one at the start, so that every stored interval lies
+ * within a single week. Query windows that wrap around are split in the same way.
+ * <br><br>
+ * Intervals are kept in a treap ordered by start minute, where every node also tracks the latest end minute in its
+ * subtree, allowing subtrees that end before the query window to be skipped.
+ */
+public class LessonIntervalIndex {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private final Map<Lesson, List<Node>> nodesByLesson = new HashMap<>();
+    private final Random random = new Random();
+    private Node root;
+    private long nextSequenceNumber;
+
+    /**
+     * Returns the number of minutes from the start of the week (Monday 0000) to {@code time} on {@code day}.
+     */
+    public static int toMinuteOfWeek(Day day, LessonTime time) {
+        requireAllNonNull(day, time);
+        return (day.day.getValue() - 1) * MINUTES_PER_DAY + time.getMinuteOfDay();
+    }
+
+    /**
+     * Adds the time slot of {@code lesson} to the index.
+     * {@code lesson} must not already be in the index.
+     */
+    public void add(Lesson lesson) {
+        requireNonNull(lesson);
+        checkArgument(!nodesByLesson.containsKey(lesson), "Lesson is already indexed: " + lesson);
+
+        List<Node> nodes = new ArrayList<>(2);
+        int start = lesson.getStartMinuteOfWeek();
+        int end = start + lesson.getDurationInMinutes();
+        if (end > MINUTES_PER_WEEK) {
+            nodes.add(new Node(lesson, start, MINUTES_PER_WEEK));
+            nodes.add(new Node(lesson, 0, end - MINUTES_PER_WEEK));
+        } else {
+            nodes.add(new Node(lesson, start, end));
+        }
+
+        for (Node node : nodes) {
+            root = insert(root, node);
+        }
+        nodesByLesson.put(lesson, nodes);
+    }
+
+    /**
+     * Removes the time slot of {@code lesson} from the index, if present.
+     */
+    public void remove(Lesson lesson) {
+        requireNonNull(lesson);
+        List<Node> nodes = nodesByLesson.remove(lesson);
+        if (nodes == null) {
+            return;
+        }
+        for (Node node : nodes) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Removes every lesson from the index.
+     */
+    public void clear() {
+        nodesByLesson.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the number of lessons in the index.
+     */
+    public int size() {
+        return nodesByLesson.size();
+    }
+
+    /**
+     * Returns the lessons taking place at any point within {@code duration} minutes from {@code startMinuteOfWeek},
+     * in the order they start.
+     * The window wraps around to the start of the week if it runs past the end of Sunday.
+     */
+    public List<Lesson> findOverlapping(int startMinuteOfWeek, int duration) {
+        checkArgument(startMinuteOfWeek >= 0 && startMinuteOfWeek < MINUTES_PER_WEEK,
+                "Start minute must be within the week: " + startMinuteOfWeek);
+        checkArgument(duration > 0 && duration <= MINUTES_PER_WEEK,
+                "Duration must be positive and at most a week: " + duration);
+
+        Set<Lesson> found = new LinkedHashSet<>();
+        int end = startMinuteOfWeek + duration;
+        if (end > MINUTES_PER_WEEK) {
+            collectOverlapping(root, startMinuteOfWeek, MINUTES_PER_WEEK, found);
+            collectOverlapping(root, 0, end - MINUTES_PER_WEEK, found);
+        } else {
+            collectOverlapping(root, startMinuteOfWeek, end, found);
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Returns the lessons taking place at the given minute of the week.
+     */
+    public List<Lesson> findAt(int minuteOfWeek) {
+        return findOverlapping(minuteOfWeek, 1);
+    }
+
+    /**
+     * Returns the indexed lessons, other than {@code lesson} itself, whose time slots overlap that of {@code lesson}.
+     */
+    public List<Lesson> findClashes(Lesson lesson) {
+        requireNonNull(lesson);
+        List<Lesson> clashes = findOverlapping(lesson.getStartMinuteOfWeek(), lesson.getDurationInMinutes());
+        clashes.removeIf(lesson::isSameLesson);
+        return clashes;
+    }
+
+    // Treap operations ============================================================================================
+
+    private static void collectOverlapping(Node node, int start, int end, Set<Lesson> found) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, found);
+        if (node.start >= end) {
+            // every interval in the right subtree starts even later
+            return;
+        }
+        if (node.end > start) {
+            found.add(node.lesson);
+        }
+        collectOverlapping(node.right, start, end, found);
+    }
+
+    private Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            toInsert.priority = random.nextInt();
+            return toInsert;
+        }
+        if (toInsert.compareTo(node) < 0) {
+            node.left = insert(node.left, toInsert);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, toInsert);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node delete(Node node, Node toDelete) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = toDelete.compareTo(node);
+        if (comparison < 0) {
+            node.left = delete(node.left, toDelete);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, toDelete);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.priority > node.right.priority) {
+            node = rotateRight(node);
+            node.right = delete(node.right, toDelete);
+        } else {
+            node = rotateLeft(node);
+            node.left = delete(node.left, toDelete);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    /**
+     * A half-open interval [start, end) of minutes in the week occupied by a lesson.
+     */
+    private class Node implements Comparable<Node> {
+        private final Lesson lesson;
+        private final int start;
+        private final int end;
+        private final long sequenceNumber;
+        private int priority;
+        private int maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Lesson lesson, int start, int end) {
+            this.lesson = lesson;
+            this.start = start;
+            this.end = end;
+            this.sequenceNumber = nextSequenceNumber++;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int comparison = Integer.compare(start, other.start);
+            return comparison != 0 ? comparison : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
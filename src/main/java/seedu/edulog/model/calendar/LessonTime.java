@@ -98,6 +98,13 @@ public class LessonTime {
         return time;
     }
 
+    /**
+     * Returns the number of minutes elapsed since midnight, e.g. 90 for "0130".
+     */
+    public int getMinuteOfDay() {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
     public String getFormattedTime() {
         return time.format(FORMAT_24H);
     }
@@ -1,5 +1,10 @@
 package seedu.edulog.model.calendar.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.edulog.model.calendar.Lesson;
+
 /**
  * Signals that the operation will result in duplicate Lessons
  * (Lessons are considered duplicates by the .isSameLesson(Lesson) method checker).
@@ -8,4 +13,13 @@ public class DuplicateLessonException extends RuntimeException {
     public DuplicateLessonException() {
         super("Operation would result in duplicate lessons");
     }
+
+    /**
+     * @param duplicates the lessons whose description collides with that of another lesson.
+     */
+    public DuplicateLessonException(List<Lesson> duplicates) {
+        super("Operation would result in duplicate lessons: " + duplicates.stream()
+                .map(lesson -> lesson.getDescription().description)
+                .collect(Collectors.joining(", ")));
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.edulog.model.student;
+
+import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.edulog.commons.util.ToStringBuilder;
+
+/**
+ * Represents the phone, email and address of a Student in the edulog book.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class ContactDetails {
+
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ContactDetails(Phone phone, Email email, Address address) {
+        requireAllNonNull(phone, email, address);
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactDetails)) {
+            return false;
+        }
+
+        ContactDetails otherContactDetails = (ContactDetails) other;
+        return phone.equals(otherContactDetails.phone)
+                && email.equals(otherContactDetails.email)
+                && address.equals(otherContactDetails.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(phone, email, address);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .toString();
+    }
+}
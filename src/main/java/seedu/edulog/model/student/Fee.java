@@ -3,6 +3,8 @@ package seedu.edulog.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.edulog.commons.util.AppUtil.checkArgument;
 
+import seedu.edulog.commons.util.ValidationUtil;
+
 /**
  * Represents a student tuition fee
  */
@@ -11,6 +13,7 @@ public class Fee {
             "Fee should only contain digits, have at least 1 digit, no leading 0s and be less than 1 million.";
     public static final String VALIDATION_REGEX = "^[1-9]\\d{0,5}$";
     public static final int LIMIT = 1000000;
+    private static final int MAX_DIGITS = 6;
 
     public final int value;
 
@@ -36,7 +39,8 @@ public class Fee {
      */
     public static boolean isValidFee(String test) {
         requireNonNull(test);
-        return test.matches(VALIDATION_REGEX) && Integer.parseInt(test) < LIMIT;
+        // at most MAX_DIGITS digits without a leading 0 are always below LIMIT
+        return !test.isEmpty() && test.charAt(0) != '0' && ValidationUtil.isDigits(test, 1, MAX_DIGITS);
     }
 
     /**
@@ -3,7 +3,10 @@ package seedu.edulog.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.edulog.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.edulog.commons.util.NumericUtil;
+import seedu.edulog.commons.util.ValidationUtil;
 
 /**
  * Represents a Student's name in the edulog book.
@@ -20,6 +23,7 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -38,7 +42,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && !NumericUtil.isNumeric(test);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test) && !NumericUtil.isNumeric(test);
     }
 
 
@@ -0,0 +1,246 @@
+package seedu.edulog.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.edulog.commons.util.StringUtil;
+
+/**
+ * An index from the words in students' names to the names containing them, stored as a trie of case-folded words.
+ * Words are case-folded with {@link StringUtil#foldCase(String)}, so exact lookups match words the same way as
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}, without splitting every name on every search.
+ * <br><br>
+ * The trie also supports approximate searches, where a search word matches name words it is a prefix of, or that
+ * are within a few typos of it. Both walk only the branches of the trie that can still match, rather than every
+ * name, so they are cheap enough to run as the user types.
+ */
+public class NameTokenIndex {
+
+    /** Relative weights of the ways a search word can match a word in a name, used to rank approximate matches. */
+    private static final double EXACT_MATCH_SCORE = 1.0;
+    private static final double PREFIX_MATCH_SCORE = 0.75;
+    private static final double TYPO_MATCH_SCORE = 0.5;
+
+    private final Node root = new Node();
+
+    /**
+     * Indexes every word in {@code name}.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String word : splitWords(name)) {
+            Node node = root;
+            for (char c : StringUtil.foldCase(word).toCharArray()) {
+                node = node.children.computeIfAbsent(c, unused -> new Node());
+            }
+            node.names.add(name);
+        }
+    }
+
+    /**
+     * Removes every word in {@code name} from the index.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String word : splitWords(name)) {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = root;
+            for (char c : StringUtil.foldCase(word).toCharArray()) {
+                path.push(node);
+                node = node.children.get(c);
+                if (node == null) {
+                    break;
+                }
+            }
+            if (node == null) {
+                continue;
+            }
+            node.names.remove(name);
+
+            // prune branches that no longer lead to any word
+            String foldedWord = StringUtil.foldCase(word);
+            for (int i = foldedWord.length() - 1; i >= 0 && node.isEmpty(); i--) {
+                node = path.pop();
+                node.children.remove(foldedWord.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    void clear() {
+        root.children.clear();
+        root.names.clear();
+    }
+
+    /**
+     * Returns the names containing any of {@code words} as a full word, ignoring case.
+     * Blank words match no names.
+     */
+    public Set<Name> findNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        Set<Name> matches = new HashSet<>();
+        for (String word : words) {
+            Node node = find(StringUtil.foldCase(word.trim()));
+            if (node != null && node != root) {
+                matches.addAll(node.names);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the names approximately matching any of {@code words}, best matches first.
+     * A search word matches a word in a name, ignoring case, if it is equal to the word, a prefix of the word, or
+     * within {@link #getMaxTypos(String)} typos (insertions, deletions, substitutions or swaps of adjacent letters) of
+     * the word. Names matching more search words rank higher, followed by names with closer matches.
+     * Blank words match no names.
+     */
+    public List<Name> findNamesApproximately(Collection<String> words) {
+        requireNonNull(words);
+        Map<Name, Integer> matchCounts = new HashMap<>();
+        Map<Name, Double> scores = new HashMap<>();
+
+        for (String word : words) {
+            String foldedWord = StringUtil.foldCase(word.trim());
+            if (foldedWord.isEmpty()) {
+                continue;
+            }
+            Map<Name, Double> wordScores = scoreWord(foldedWord);
+            wordScores.forEach((name, score) -> {
+                matchCounts.merge(name, 1, Integer::sum);
+                scores.merge(name, score, Double::sum);
+            });
+        }
+
+        Comparator<Name> ranking = Comparator.<Name>comparingInt(matchCounts::get).reversed()
+                .thenComparing(Comparator.<Name>comparingDouble(scores::get).reversed())
+                .thenComparing(name -> StringUtil.foldCase(name.fullName));
+        return matchCounts.keySet().stream().sorted(ranking).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of typos tolerated when searching for {@code word}.
+     * Short words tolerate none, as almost any other short word would be within a typo or two of them.
+     */
+    public static int getMaxTypos(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        } else if (word.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the best score of each name with a word approximately matching {@code foldedWord}.
+     */
+    private Map<Name, Double> scoreWord(String foldedWord) {
+        Map<Name, Double> wordScores = new HashMap<>();
+
+        Node prefixNode = find(foldedWord);
+        if (prefixNode != null) {
+            collectNames(prefixNode, PREFIX_MATCH_SCORE, wordScores);
+            prefixNode.names.forEach(name -> wordScores.put(name, EXACT_MATCH_SCORE));
+        }
+
+        int maxTypos = getMaxTypos(foldedWord);
+        if (maxTypos > 0) {
+            int[] firstRow = new int[foldedWord.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+            for (Map.Entry<Character, Node> child : root.children.entrySet()) {
+                collectTypoMatches(child.getValue(), child.getKey(), (char) 0, null, firstRow, foldedWord, maxTypos,
+                        wordScores);
+            }
+        }
+        return wordScores;
+    }
+
+    /**
+     * Walks the trie below {@code node}, computing the edit distance between {@code word} and the word spelt out by
+     * each trie node one row at a time, as in the optimal string alignment distance. Branches whose distance can no
+     * longer fall within {@code maxTypos} are skipped.
+     */
+    private static void collectTypoMatches(Node node, char letter, char previousLetter, int[] rowBeforePrevious,
+            int[] previousRow, String word, int maxTypos, Map<Name, Double> wordScores) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitutionCost = word.charAt(i - 1) == letter ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + substitutionCost);
+            if (rowBeforePrevious != null && i > 1
+                    && word.charAt(i - 1) == previousLetter && word.charAt(i - 2) == letter) {
+                row[i] = Math.min(row[i], rowBeforePrevious[i - 2] + 1);
+            }
+            rowMinimum = Math.min(rowMinimum, row[i]);
+        }
+
+        int distance = row[row.length - 1];
+        if (distance > 0 && distance <= maxTypos) {
+            double score = TYPO_MATCH_SCORE / distance;
+            node.names.forEach(name -> wordScores.merge(name, score, Math::max));
+        }
+
+        // children can only do better than this row through a swap of adjacent letters, which reads the previous row
+        int previousRowMinimum = Integer.MAX_VALUE;
+        for (int value : previousRow) {
+            previousRowMinimum = Math.min(previousRowMinimum, value);
+        }
+        if (rowMinimum > maxTypos && previousRowMinimum >= maxTypos) {
+            return;
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            collectTypoMatches(child.getValue(), child.getKey(), letter, previousRow, row, word, maxTypos,
+                    wordScores);
+        }
+    }
+
+    private static void collectNames(Node node, double score, Map<Name, Double> wordScores) {
+        node.names.forEach(name -> wordScores.merge(name, score, Math::max));
+        for (Node child : node.children.values()) {
+            collectNames(child, score, wordScores);
+        }
+    }
+
+    /**
+     * Returns the trie node spelling out {@code foldedWord}, or null if no indexed word starts with it.
+     */
+    private Node find(String foldedWord) {
+        Node node = root;
+        for (int i = 0; i < foldedWord.length() && node != null; i++) {
+            node = node.children.get(foldedWord.charAt(i));
+        }
+        return node;
+    }
+
+    private static String[] splitWords(Name name) {
+        return name.fullName.split("\\s+");
+    }
+
+    /**
+     * A trie node, holding the names containing the word spelt out by the path from the root to this node.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Name> names = new HashSet<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && names.isEmpty();
+        }
+    }
+}
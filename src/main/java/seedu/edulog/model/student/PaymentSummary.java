@@ -0,0 +1,104 @@
+package seedu.edulog.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+/**
+ * Running totals of the fees paid and owed by a group of students, and the number of students who have and have not
+ * paid. The totals are adjusted as students are added to and removed from the group instead of being recomputed,
+ * and are exposed as read-only properties that the UI can bind to.
+ * <br><br>
+ * A student's contribution is taken from their fields at the time they are added, so students must not be modified
+ * while they are counted; replace them with an updated copy instead.
+ */
+public class PaymentSummary {
+
+    private final ReadOnlyIntegerWrapper paidTotal = new ReadOnlyIntegerWrapper();
+    private final ReadOnlyIntegerWrapper unpaidTotal = new ReadOnlyIntegerWrapper();
+    private final ReadOnlyIntegerWrapper paidCount = new ReadOnlyIntegerWrapper();
+    private final ReadOnlyIntegerWrapper unpaidCount = new ReadOnlyIntegerWrapper();
+
+    /**
+     * Counts {@code student} towards the totals.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        adjust(student, 1);
+    }
+
+    /**
+     * Stops counting {@code student} towards the totals.
+     * {@code student} must currently be counted.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        adjust(student, -1);
+    }
+
+    /**
+     * Resets every total to zero.
+     */
+    void clear() {
+        paidTotal.set(0);
+        unpaidTotal.set(0);
+        paidCount.set(0);
+        unpaidCount.set(0);
+    }
+
+    private void adjust(Student student, int sign) {
+        int fee = student.getFee().value;
+        if (student.getHasPaid()) {
+            paidTotal.set(paidTotal.get() + sign * fee);
+            paidCount.set(paidCount.get() + sign);
+        } else {
+            unpaidTotal.set(unpaidTotal.get() + sign * fee);
+            unpaidCount.set(unpaidCount.get() + sign);
+        }
+    }
+
+    /**
+     * Returns the total fees of students who have paid.
+     */
+    public int getPaidTotal() {
+        return paidTotal.get();
+    }
+
+    /**
+     * Returns the total fees of students who have not paid.
+     */
+    public int getUnpaidTotal() {
+        return unpaidTotal.get();
+    }
+
+    /**
+     * Returns the number of students who have paid.
+     */
+    public int getPaidCount() {
+        return paidCount.get();
+    }
+
+    /**
+     * Returns the number of students who have not paid.
+     */
+    public int getUnpaidCount() {
+        return unpaidCount.get();
+    }
+
+    public ReadOnlyIntegerProperty paidTotalProperty() {
+        return paidTotal.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty unpaidTotalProperty() {
+        return unpaidTotal.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty paidCountProperty() {
+        return paidCount.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty unpaidCountProperty() {
+        return unpaidCount.getReadOnlyProperty();
+    }
+}
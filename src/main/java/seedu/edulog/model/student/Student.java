@@ -5,7 +5,9 @@ import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.edulog.commons.util.ToStringBuilder;
 import seedu.edulog.model.tag.Tag;
@@ -18,57 +20,80 @@ public class Student {
 
     // Identity fields
     private final Name name;
-    private final seedu.edulog.model.student.Phone phone;
-    private final seedu.edulog.model.student.Email email;
 
     // Data fields
-    private final seedu.edulog.model.student.Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private boolean hasPaid = false;
+    private final boolean hasPaid;
     private final Fee fee;
 
+    // Contact fields, of which exactly one is set
+    private final ContactDetails contactDetails;
+    private final Supplier<ContactDetails> contactDetailsLoader;
+
     /**
      * Every field must be present and not null.
      */
     public Student(Name name, Phone phone, Email email, Address address, Set<Tag> tags, boolean hasPaid, Fee fee) {
-        requireAllNonNull(name, phone, email, address, tags);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
-        this.hasPaid = hasPaid;
-        this.fee = fee;
+        this(name, tags, hasPaid, fee, new ContactDetails(phone, email, address), null);
     }
 
     /**
      * Every field must be present and not null except hasPaid.
      */
     public Student(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Fee fee) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(name, phone, email, address, tags, false, fee);
+    }
+
+    /**
+     * Creates a student whose phone, email and address are only loaded by {@code contactDetailsLoader} when they are
+     * first needed, so that students can be listed without loading the details of every one of them.
+     * {@code contactDetailsLoader} is called every time the details are needed, so it should keep the details it
+     * loads, and must return equal details on every call.
+     */
+    public Student(Name name, Set<Tag> tags, boolean hasPaid, Fee fee, Supplier<ContactDetails> contactDetailsLoader) {
+        this(name, tags, hasPaid, fee, null, contactDetailsLoader);
+        requireAllNonNull(contactDetailsLoader);
+    }
+
+    private Student(Name name, Set<Tag> tags, boolean hasPaid, Fee fee, ContactDetails contactDetails,
+            Supplier<ContactDetails> contactDetailsLoader) {
+        requireAllNonNull(name, tags);
         this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
         this.tags.addAll(tags);
-        this.hasPaid = false;
+        this.hasPaid = hasPaid;
         this.fee = fee;
+        this.contactDetails = contactDetails;
+        this.contactDetailsLoader = contactDetailsLoader;
     }
 
     public Name getName() {
         return name;
     }
 
-    public seedu.edulog.model.student.Phone getPhone() {
-        return phone;
+    public Phone getPhone() {
+        return getContactDetails().getPhone();
     }
 
-    public seedu.edulog.model.student.Email getEmail() {
-        return email;
+    public Email getEmail() {
+        return getContactDetails().getEmail();
     }
 
-    public seedu.edulog.model.student.Address getAddress() {
-        return address;
+    public Address getAddress() {
+        return getContactDetails().getAddress();
+    }
+
+    /**
+     * Returns the phone, email and address of this student, loading them if they have not been loaded yet.
+     */
+    public ContactDetails getContactDetails() {
+        return contactDetails != null ? contactDetails : contactDetailsLoader.get();
+    }
+
+    /**
+     * Returns the loader of the contact details of this student, if they are loaded on demand.
+     */
+    public Optional<Supplier<ContactDetails>> getContactDetailsLoader() {
+        return Optional.ofNullable(contactDetailsLoader);
     }
 
     /**
@@ -93,17 +118,10 @@ public class Student {
     }
 
     /**
-     * Marks the student as paid.
-     */
-    public void mark() {
-        hasPaid = true;
-    }
-
-    /**
-     * Marks the student as unpaid.
+     * Returns a copy of this student with the given payment status, leaving this student unchanged.
      */
-    public void unmark() {
-        hasPaid = false;
+    public Student withPaymentStatus(boolean hasPaid) {
+        return new Student(name, tags, hasPaid, fee, contactDetails, contactDetailsLoader);
     }
 
     /**
@@ -135,28 +153,28 @@ public class Student {
         }
 
         Student otherStudent = (Student) other;
+        // the contact details are compared last, as they may have to be loaded
         return name.equals(otherStudent.name)
-                && phone.equals(otherStudent.phone)
-                && email.equals(otherStudent.email)
-                && address.equals(otherStudent.address)
                 && tags.equals(otherStudent.tags)
                 && hasPaid == otherStudent.hasPaid
-                && fee.equals(otherStudent.fee);
+                && fee.equals(otherStudent.fee)
+                && (contactDetailsLoader != null && contactDetailsLoader == otherStudent.contactDetailsLoader
+                        || getContactDetails().equals(otherStudent.getContactDetails()));
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, hasPaid);
+        // the contact details are left out so that hashing a student never loads them
+        return Objects.hash(name, tags, hasPaid);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("edulog", address)
+                .add("phone", getPhone())
+                .add("email", getEmail())
+                .add("edulog", getAddress())
                 .add("tags", tags)
                 .add("hasPaid", hasPaid)
                 .add("fee", fee)
@@ -0,0 +1,96 @@
+package seedu.edulog.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.edulog.model.tag.Tag;
+
+/**
+ * An index from tags to the names of the students with them, so that students can be filtered by tag through set
+ * operations on the index rather than by testing every student.
+ */
+public class TagIndex {
+
+    private final Map<Tag, Set<Name>> postings = new HashMap<>();
+
+    /**
+     * Indexes every tag of {@code student}.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        for (Tag tag : student.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new HashSet<>()).add(student.getName());
+        }
+    }
+
+    /**
+     * Removes every tag of {@code student} from the index.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        for (Tag tag : student.getTags()) {
+            Set<Name> names = postings.get(tag);
+            if (names == null) {
+                continue;
+            }
+            names.remove(student.getName());
+            if (names.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the names of students with {@code tag}.
+     */
+    public Set<Name> findNamesWithTag(Tag tag) {
+        requireNonNull(tag);
+        return Collections.unmodifiableSet(postings.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the names of students with at least one tag from every group in {@code tagGroups}, i.e. the tags within
+     * a group are combined with OR, and the groups with AND. No names match if there are no groups.
+     */
+    public Set<Name> findNamesMatching(Collection<? extends Collection<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        List<Set<Name>> groupMatches = new ArrayList<>(tagGroups.size());
+        for (Collection<Tag> tagGroup : tagGroups) {
+            Set<Name> matches = new HashSet<>();
+            for (Tag tag : tagGroup) {
+                matches.addAll(postings.getOrDefault(tag, Collections.emptySet()));
+            }
+            if (matches.isEmpty()) {
+                return new HashSet<>();
+            }
+            groupMatches.add(matches);
+        }
+        if (groupMatches.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        // intersect starting from the smallest group, so that each step checks as few names as possible
+        groupMatches.sort(Comparator.comparingInt(Set::size));
+        Set<Name> result = groupMatches.get(0);
+        for (int i = 1; i < groupMatches.size() && !result.isEmpty(); i++) {
+            result.retainAll(groupMatches.get(i));
+        }
+        return result;
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.edulog.model.student;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.CollectionUtil.findDuplicatePositions;
 import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +26,11 @@ import seedu.edulog.model.student.exceptions.StudentNotFoundException;
  * However, the removal of a student uses Student#equals(Object) so as to ensure that the student with exactly the
  * same fields will be removed.
  * Supports a minimal set of list operations.
+ * Positions of students are additionally indexed by {@code Name}, the identity field used by
+ * {@code Student#isSameStudent(Student)}, so that duplicate checks and lookups do not scan the list.
+ * Payment totals, the words in students' names and students' tags are likewise kept up to date in a
+ * {@code PaymentSummary}, a {@code NameTokenIndex} and a {@code TagIndex} as students are added, replaced and removed.
+ * Students in the list must therefore not be modified in place; replace them with an updated copy instead.
  *
  * @see Student#isSameStudent(Student)
  */
@@ -28,12 +40,27 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Position of each student in {@code internalList}, keyed by the student's name.
+     * Updated before {@code internalList} is changed, so that listeners always see a consistent index.
+     */
+    private final Map<Name, Integer> positionIndex = new HashMap<>();
+
+    private final PaymentSummary paymentSummary = new PaymentSummary();
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    /** Number of times the list has been changed, so callers can tell whether it changed since they last looked. */
+    private long modificationCount;
+
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return positionIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,6 +72,11 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        positionIndex.put(toAdd.getName(), internalList.size());
+        paymentSummary.add(toAdd);
+        nameTokenIndex.add(toAdd.getName());
+        tagIndex.add(toAdd);
+        modificationCount++;
         internalList.add(toAdd);
     }
 
@@ -56,7 +88,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -65,6 +97,15 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        positionIndex.remove(target.getName());
+        positionIndex.put(editedStudent.getName(), index);
+        paymentSummary.remove(internalList.get(index));
+        paymentSummary.add(editedStudent);
+        nameTokenIndex.remove(target.getName());
+        nameTokenIndex.add(editedStudent.getName());
+        tagIndex.remove(internalList.get(index));
+        tagIndex.add(editedStudent);
+        modificationCount++;
         internalList.set(index, editedStudent);
     }
 
@@ -74,13 +115,28 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+
+        positionIndex.remove(toRemove.getName());
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getName(), i - 1);
+        }
+        paymentSummary.remove(internalList.get(index));
+        nameTokenIndex.remove(toRemove.getName());
+        tagIndex.remove(internalList.get(index));
+        modificationCount++;
+        internalList.remove(index);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        resetDerivedIndexes(replacement.internalList);
+        modificationCount++;
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +146,94 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        List<Integer> duplicatePositions = findDuplicatePositions(students, Student::getName);
+        if (!duplicatePositions.isEmpty()) {
+            throw new DuplicateStudentException(
+                    duplicatePositions.stream().map(students::get).collect(Collectors.toList()));
         }
 
+        positionIndex.clear();
+        for (int i = 0; i < students.size(); i++) {
+            positionIndex.put(students.get(i).getName(), i);
+        }
+        resetDerivedIndexes(students);
+        modificationCount++;
         internalList.setAll(students);
     }
 
+    private void resetDerivedIndexes(List<Student> students) {
+        paymentSummary.clear();
+        nameTokenIndex.clear();
+        tagIndex.clear();
+        for (Student student : students) {
+            paymentSummary.add(student);
+            nameTokenIndex.add(student.getName());
+            tagIndex.add(student);
+        }
+    }
+
+    /**
+     * Returns the running payment totals of the students in this list.
+     */
+    public PaymentSummary getPaymentSummary() {
+        return paymentSummary;
+    }
+
+    /**
+     * Returns the index of the words in the names of the students in this list.
+     */
+    public NameTokenIndex getNameTokenIndex() {
+        return nameTokenIndex;
+    }
+
+    /**
+     * Returns the number of times this list has been changed since it was created.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the index of the tags of the students in this list.
+     */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Replaces every student matching {@code filter} with the result of applying {@code update} to that student,
+     * as a single change to the list. Does nothing if no student matches.
+     * The updated students must not result in duplicate students in the list.
+     */
+    public void updateStudents(Predicate<Student> filter, UnaryOperator<Student> update) {
+        requireAllNonNull(filter, update);
+
+        List<Student> updatedStudents = new ArrayList<>(internalList.size());
+        boolean hasMatch = false;
+        for (Student student : internalList) {
+            if (filter.test(student)) {
+                updatedStudents.add(requireNonNull(update.apply(student)));
+                hasMatch = true;
+            } else {
+                updatedStudents.add(student);
+            }
+        }
+
+        if (hasMatch) {
+            setStudents(updatedStudents);
+        }
+    }
+
+    /**
+     * Returns the position of {@code target} in the list, or -1 if the list does not contain {@code target}.
+     * As with {@code List#indexOf(Object)}, the student at that position must be equal to {@code target}.
+     */
+    public int indexOf(Student target) {
+        requireNonNull(target);
+        Integer index = positionIndex.get(target.getName());
+        return index != null && internalList.get(index).equals(target) ? index : -1;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -133,18 +270,4 @@ public class UniqueStudentList implements Iterable<Student> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
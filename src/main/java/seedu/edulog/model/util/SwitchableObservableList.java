@@ -0,0 +1,95 @@
+package seedu.edulog.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only view of one of several observable lists, which can be switched to show another list in O(1) time.
+ * Changes to the list currently shown are forwarded to listeners of this view, and switching to another list is
+ * reported as a single change replacing every element.
+ * <br><br>
+ * This lets a list that is kept up to date elsewhere, such as a live partition of the students, be shown without
+ * filtering the full list again.
+ */
+public class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> forwardingListener = this::forwardChange;
+    private ObservableList<E> source;
+
+    /**
+     * Creates a view initially showing {@code source}.
+     */
+    public SwitchableObservableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(forwardingListener);
+    }
+
+    /**
+     * Shows {@code newSource} instead of the list currently shown. Does nothing if it is already shown.
+     * The removed elements reported to listeners are a view of the previous list, which is only guaranteed to be
+     * accurate while the change is being handled.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(forwardingListener);
+        source = newSource;
+        newSource.addListener(forwardingListener);
+
+        beginChange();
+        nextReplace(0, newSource.size(), Collections.unmodifiableList(oldSource));
+        endChange();
+    }
+
+    /**
+     * Returns the list currently shown.
+     */
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
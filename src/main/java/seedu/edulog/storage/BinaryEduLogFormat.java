@@ -0,0 +1,283 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.commons.util.FileUtil;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.ReadOnlyEduLog;
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.Description;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonTime;
+import seedu.edulog.model.student.Address;
+import seedu.edulog.model.student.Email;
+import seedu.edulog.model.student.Fee;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.Phone;
+import seedu.edulog.model.student.Student;
+import seedu.edulog.model.tag.Tag;
+import seedu.edulog.storage.lesson.LessonTimeUtil;
+
+/**
+ * Reads and writes an EduLog in a compact binary format, which is faster to load than JSON.
+ * <br><br>
+ * The file starts with {@link #MAGIC_NUMBER} and {@link #VERSION}, followed by a table of every distinct string in
+ * the EduLog, each stored as its length in bytes followed by its UTF-8 encoding. The students and lessons follow,
+ * each list prefixed with its size. Their text fields are stored as indexes into the string table, so a repeated
+ * tag or address is only stored once, and their other fields are stored at a fixed width:
+ * <ul>
+ *     <li>student: name, phone, email and address as string indexes, whether they have paid as a byte, fee as an
+ *     int, then the number of tags as an int followed by the tags as string indexes.</li>
+ *     <li>lesson: description as a string index, start day as a byte from 1 (Monday) to 7 (Sunday), then start and
+ *     end time as shorts counting minutes from midnight.</li>
+ * </ul>
+ * All numbers are big-endian.
+ */
+class BinaryEduLogFormat {
+
+    /** The first bytes of every file in this format: "EDUL" in ASCII. */
+    static final int MAGIC_NUMBER = 0x4544554C;
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY = "Not an EduLog binary file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported EduLog binary file version: %d";
+    static final String MESSAGE_CORRUPTED = "Corrupted EduLog binary file: %s";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    /**
+     * Writes {@code eduLog} to {@code filePath}, overwriting the file if it exists.
+     */
+    static void write(ReadOnlyEduLog eduLog, Path filePath) throws IOException {
+        requireNonNull(eduLog);
+        requireNonNull(filePath);
+
+        StringTable strings = new StringTable();
+        for (Student student : eduLog.getStudentList()) {
+            strings.add(student.getName().fullName);
+            strings.add(student.getPhone().value);
+            strings.add(student.getEmail().value);
+            strings.add(student.getAddress().value);
+            student.getTags().forEach(tag -> strings.add(tag.tagName));
+        }
+        for (Lesson lesson : eduLog.getLessonList()) {
+            strings.add(lesson.getDescription().toString());
+        }
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(VERSION);
+
+            output.writeInt(strings.values.size());
+            for (String value : strings.values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+
+            output.writeInt(eduLog.getStudentList().size());
+            for (Student student : eduLog.getStudentList()) {
+                output.writeInt(strings.indexOf(student.getName().fullName));
+                output.writeInt(strings.indexOf(student.getPhone().value));
+                output.writeInt(strings.indexOf(student.getEmail().value));
+                output.writeInt(strings.indexOf(student.getAddress().value));
+                output.writeBoolean(student.getHasPaid());
+                output.writeInt(student.getFee().value);
+                output.writeInt(student.getTags().size());
+                for (Tag tag : student.getTags()) {
+                    output.writeInt(strings.indexOf(tag.tagName));
+                }
+            }
+
+            output.writeInt(eduLog.getLessonList().size());
+            for (Lesson lesson : eduLog.getLessonList()) {
+                output.writeInt(strings.indexOf(lesson.getDescription().toString()));
+                writeLessonSchedule(output, lesson);
+            }
+        }
+    }
+
+    /**
+     * Writes the start day, start time and end time of {@code lesson} at the fixed width described above.
+     */
+    static void writeLessonSchedule(DataOutputStream output, Lesson lesson) throws IOException {
+        output.writeByte(lesson.getStartDay().day.getValue());
+        output.writeShort(lesson.getStartTime().getMinuteOfDay());
+        output.writeShort(lesson.getEndTime().getMinuteOfDay());
+    }
+
+    /**
+     * Reads the EduLog stored in {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static EduLog read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        // the file is memory-mapped where possible, so it is decoded straight from the page cache
+        try (DataInputStream input = new DataInputStream(FileUtil.openForReading(filePath))) {
+            // every counted item takes at least a byte, so a larger count can only come from a corrupted file
+            long maxCount = Files.size(filePath);
+            if (input.readInt() != MAGIC_NUMBER) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] strings = new String[readCount(input, "string table size", maxCount)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(input, "string length", maxCount)];
+                input.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            EduLog eduLog = new EduLog();
+            // tags are mostly shared between students, so each distinct tag is only validated once
+            Tag[] tags = new Tag[strings.length];
+            int studentCount = readCount(input, "student count", maxCount);
+            for (int i = 0; i < studentCount; i++) {
+                Student student = readStudent(input, strings, tags, maxCount);
+                if (eduLog.hasStudent(student)) {
+                    throw new IllegalValueException(JsonSerializableEduLog.MESSAGE_DUPLICATE_STUDENT);
+                }
+                eduLog.addStudent(student);
+            }
+
+            int lessonCount = readCount(input, "lesson count", maxCount);
+            for (int i = 0; i < lessonCount; i++) {
+                Lesson lesson = readLesson(input, strings);
+                if (eduLog.hasLesson(lesson)) {
+                    throw new IllegalValueException(JsonSerializableEduLog.MESSAGE_DUPLICATE_LESSON);
+                }
+                eduLog.addLesson(lesson);
+            }
+            return eduLog;
+        }
+    }
+
+    private static Student readStudent(DataInputStream input, String[] strings, Tag[] tags, long maxCount)
+            throws IOException, IllegalValueException {
+        String name = readString(input, strings);
+        String phone = readString(input, strings);
+        String email = readString(input, strings);
+        String address = readString(input, strings);
+        boolean hasPaid = input.readBoolean();
+        int fee = input.readInt();
+        int tagCount = readCount(input, "tag count", maxCount);
+        int[] tagIndexes = new int[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tagIndexes[i] = readStringIndex(input, strings);
+        }
+
+        // the constructors validate their arguments, so they are not validated beforehand as well
+        try {
+            Set<Tag> studentTags = new HashSet<>();
+            for (int index : tagIndexes) {
+                if (tags[index] == null) {
+                    tags[index] = new Tag(strings[index]);
+                }
+                studentTags.add(tags[index]);
+            }
+            return new Student(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                    studentTags, hasPaid, new Fee(fee));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static Lesson readLesson(DataInputStream input, String[] strings)
+            throws IOException, IllegalValueException {
+        return readLesson(input, readString(input, strings));
+    }
+
+    /**
+     * Reads the schedule written by {@link #writeLessonSchedule} of the lesson with the given {@code description}.
+     */
+    static Lesson readLesson(DataInputStream input, String description) throws IOException, IllegalValueException {
+        if (Description.checkEmptyDescription(description)) {
+            throw new IllegalValueException(Description.DESCRIPTION_EMPTY);
+        } else if (Description.checkTooLongDescription(description)) {
+            throw new IllegalValueException(Description.DESCRIPTION_TOO_LONG);
+        }
+
+        int startDay = input.readByte();
+        if (startDay < DayOfWeek.MONDAY.getValue() || startDay > DayOfWeek.SUNDAY.getValue()) {
+            throw new IllegalValueException(Day.INVALID_DAY_OF_WEEK);
+        }
+        String startTime = toLessonTimeString(input.readShort());
+        String endTime = toLessonTimeString(input.readShort());
+        List<LessonTime> lessonTimes = LessonTimeUtil.toLessonTimes(startTime, endTime);
+
+        return new Lesson(new Description(description), new Day(DayOfWeek.of(startDay).toString()),
+                lessonTimes.get(0), lessonTimes.get(1));
+    }
+
+    /**
+     * Returns the minute of the day {@code minuteOfDay} in the 24-hour format expected by {@link LessonTime}, or an
+     * invalid time if it is out of range.
+     */
+    private static String toLessonTimeString(int minuteOfDay) {
+        if (minuteOfDay < 0) {
+            return "";
+        }
+        return String.format("%02d%02d", minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    private static int readCount(DataInputStream input, String description, long maxCount) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || count > maxCount) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, description + " out of range"));
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream input, String[] strings) throws IOException {
+        return strings[readStringIndex(input, strings)];
+    }
+
+    private static int readStringIndex(DataInputStream input, String[] strings) throws IOException {
+        int index = input.readInt();
+        if (index < 0 || index >= strings.length) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "string index out of range"));
+        }
+        return index;
+    }
+
+    /**
+     * The distinct strings of an EduLog, in the order they were first added.
+     */
+    private static class StringTable {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        void add(String value) {
+            if (indexes.putIfAbsent(value, values.size()) == null) {
+                values.add(value);
+            }
+        }
+
+        int indexOf(String value) {
+            return indexes.get(value);
+        }
+    }
+}
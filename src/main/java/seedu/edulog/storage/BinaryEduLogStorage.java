@@ -0,0 +1,120 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.commons.util.FileUtil;
+import seedu.edulog.model.ReadOnlyEduLog;
+
+/**
+ * A class to access EduLog data stored in the binary format described in {@link BinaryEduLogFormat}.
+ * The format is smaller and faster to load than JSON, at the cost of not being human-readable.
+ */
+public class BinaryEduLogStorage implements EduLogStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryEduLogStorage.class);
+
+    private final Path filePath;
+    private final boolean isAtomicSaveEnabled;
+    private final int backupCount;
+
+    /**
+     * Creates a storage for the EduLog at {@code filePath}, which saves by overwriting the file in place.
+     */
+    public BinaryEduLogStorage(Path filePath) {
+        this(filePath, false, 0);
+    }
+
+    /**
+     * Creates a storage for the EduLog at {@code filePath}.
+     *
+     * @param isAtomicSaveEnabled whether saves are written to a temporary file that then replaces the data file,
+     *     so that a crash while saving cannot leave the data file partly written.
+     * @param backupCount the number of previous versions of the data file kept when saving atomically.
+     */
+    public BinaryEduLogStorage(Path filePath, boolean isAtomicSaveEnabled, int backupCount) {
+        requireNonNull(filePath);
+        checkArgument(backupCount >= 0, "Backup count must not be negative: " + backupCount);
+        this.filePath = filePath;
+        this.isAtomicSaveEnabled = isAtomicSaveEnabled;
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the path of the binary data file kept in place of the JSON data file at {@code jsonFilePath}: the same
+     * path with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getEduLogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog() throws DataLoadingException {
+        return readEduLog(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(BinaryEduLogFormat.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog) throws IOException {
+        saveEduLog(eduLog, filePath);
+    }
+
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog, Path filePath) throws IOException {
+        requireNonNull(eduLog);
+        requireNonNull(filePath);
+
+        if (!isAtomicSaveEnabled) {
+            FileUtil.createIfMissing(filePath);
+            BinaryEduLogFormat.write(eduLog, filePath);
+            return;
+        }
+
+        FileUtil.writeAtomically(filePath, backupCount, tempFilePath -> BinaryEduLogFormat.write(eduLog, tempFilePath));
+    }
+
+    @Override
+    public void flushEduLog() {
+        // saves are written before saveEduLog returns
+    }
+
+    @Override
+    public void checkEduLogSaved() {
+        // failed saves are thrown from saveEduLog
+    }
+}
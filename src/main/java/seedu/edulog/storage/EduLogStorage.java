@@ -43,4 +43,16 @@ public interface EduLogStorage {
      */
     void saveEduLog(ReadOnlyEduLog eduLog, Path filePath) throws IOException;
 
+    /**
+     * Waits for any saves that are still being written to finish.
+     * @throws IOException if there was any problem writing to the file that has not been reported yet.
+     */
+    void flushEduLog() throws IOException;
+
+    /**
+     * Reports any save written in the background that failed, without waiting for saves still being written.
+     * @throws IOException if there was any problem writing to the file that has not been reported yet.
+     */
+    void checkEduLogSaved() throws IOException;
+
 }
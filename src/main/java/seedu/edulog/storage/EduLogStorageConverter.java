@@ -0,0 +1,100 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.model.ReadOnlyEduLog;
+
+/**
+ * Converts EduLog data between storages, such as from the JSON format to the binary format.
+ */
+public class EduLogStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(EduLogStorageConverter.class);
+
+    /**
+     * Saves the EduLog read from {@code source} to {@code target}. Does nothing if {@code source} has no data.
+     *
+     * @return true if any data was converted.
+     * @throws DataLoadingException if reading from {@code source} failed.
+     * @throws IOException if saving to {@code target} failed.
+     */
+    public static boolean convert(EduLogStorage source, EduLogStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyEduLog> eduLog = source.readEduLog();
+        if (eduLog.isEmpty()) {
+            return false;
+        }
+        target.saveEduLog(eduLog.get());
+        target.flushEduLog();
+        logger.info("Converted data file " + source.getEduLogFilePath() + " to " + target.getEduLogFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the data in {@code source} to {@code target} if the data file of {@code source} was saved more
+     * recently than that of {@code target}, or {@code target} has no data file. This keeps {@code target} up to date
+     * after switching to it from {@code source}.
+     *
+     * @return true if any data was converted.
+     * @throws DataLoadingException if reading from {@code source} failed.
+     * @throws IOException if saving to {@code target} failed.
+     */
+    public static boolean convertIfNewer(EduLogStorage source, EduLogStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Path sourcePath = source.getEduLogFilePath();
+        Path targetPath = target.getEduLogFilePath();
+        if (!Files.exists(sourcePath)) {
+            return false;
+        }
+        if (Files.exists(targetPath)
+                && Files.getLastModifiedTime(targetPath).compareTo(Files.getLastModifiedTime(sourcePath)) >= 0) {
+            return false;
+        }
+        return convert(source, target);
+    }
+
+    /**
+     * Converts the data in whichever of {@code sources} has the most recently saved data file to {@code target}, as
+     * in {@link #convertIfNewer(EduLogStorage, EduLogStorage)}. Sources without a data file are skipped.
+     *
+     * @return true if any data was converted.
+     * @throws DataLoadingException if reading from the newest source failed.
+     * @throws IOException if saving to {@code target} failed.
+     */
+    public static boolean convertNewestIfNewer(List<EduLogStorage> sources, EduLogStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(sources);
+        requireNonNull(target);
+
+        EduLogStorage newestSource = null;
+        FileTime newestTime = null;
+        for (EduLogStorage source : sources) {
+            Path sourcePath = source.getEduLogFilePath();
+            if (!Files.exists(sourcePath)) {
+                continue;
+            }
+            FileTime sourceTime = Files.getLastModifiedTime(sourcePath);
+            if (newestTime == null || sourceTime.compareTo(newestTime) > 0) {
+                newestSource = source;
+                newestTime = sourceTime;
+            }
+        }
+        return newestSource != null && convertIfNewer(newestSource, target);
+    }
+}
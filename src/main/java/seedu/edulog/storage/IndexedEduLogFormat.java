@@ -0,0 +1,273 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.commons.util.FileUtil;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.Address;
+import seedu.edulog.model.student.ContactDetails;
+import seedu.edulog.model.student.Email;
+import seedu.edulog.model.student.Fee;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.Phone;
+import seedu.edulog.model.tag.Tag;
+
+/**
+ * Reads and writes an EduLog as an index file holding everything but the phone, email and address of each student,
+ * which are kept as records in a separate records file. The index is small enough to be read quickly however many
+ * students there are, and each record can be read on its own from its position in the records file.
+ * <br><br>
+ * The index file starts with {@link #MAGIC_NUMBER} and {@link #VERSION}, followed by the generation of the records
+ * file it refers to as a long. The students and lessons follow, each list prefixed with its size:
+ * <ul>
+ *     <li>student: name as a string, whether they have paid as a byte, fee as an int, the number of tags as an int
+ *     followed by the tags as strings, then the position of their record in the records file as a long and the
+ *     length of the record as an int.</li>
+ *     <li>lesson: description as a string, followed by its schedule as in {@link BinaryEduLogFormat}.</li>
+ * </ul>
+ * A record holds the phone, email and address of a student as strings. Strings are stored as their length in bytes
+ * followed by their UTF-8 encoding, and all numbers are big-endian.
+ */
+class IndexedEduLogFormat {
+
+    /** The first bytes of every index file: "EDUI" in ASCII. */
+    static final int MAGIC_NUMBER = 0x45445549;
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_INDEX = "Not an EduLog index file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported EduLog index file version: %d";
+    static final String MESSAGE_CORRUPTED = "Corrupted EduLog index file: %s";
+    static final String MESSAGE_CORRUPTED_RECORD = "Corrupted EduLog record: %s";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes {@code index} to {@code filePath}, overwriting the file if it exists.
+     */
+    static void write(Index index, Path filePath) throws IOException {
+        requireNonNull(index);
+        requireNonNull(filePath);
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(VERSION);
+            output.writeLong(index.generation);
+
+            output.writeInt(index.students.size());
+            for (StudentEntry student : index.students) {
+                writeString(output, student.name.fullName);
+                output.writeBoolean(student.hasPaid);
+                output.writeInt(student.fee.value);
+                output.writeInt(student.tags.size());
+                for (Tag tag : student.tags) {
+                    writeString(output, tag.tagName);
+                }
+                output.writeLong(student.recordPosition);
+                output.writeInt(student.recordLength);
+            }
+
+            output.writeInt(index.lessons.size());
+            for (Lesson lesson : index.lessons) {
+                writeString(output, lesson.getDescription().toString());
+                BinaryEduLogFormat.writeLessonSchedule(output, lesson);
+            }
+        }
+    }
+
+    /**
+     * Reads the index stored in {@code filePath}. The records it refers to are not read.
+     *
+     * @throws IOException if the file could not be read or is not in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Index read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (DataInputStream input = new DataInputStream(FileUtil.openForReading(filePath))) {
+            // every counted item takes at least a byte, so a larger count can only come from a corrupted file
+            long maxCount = Files.size(filePath);
+            long generation = readHeader(input);
+
+            List<StudentEntry> students = new ArrayList<>();
+            // tags are mostly shared between students, so each distinct tag is only validated once
+            Map<String, Tag> tags = new HashMap<>();
+            int studentCount = readCount(input, "student count", maxCount);
+            for (int i = 0; i < studentCount; i++) {
+                students.add(readStudent(input, tags, maxCount));
+            }
+
+            List<Lesson> lessons = new ArrayList<>();
+            int lessonCount = readCount(input, "lesson count", maxCount);
+            for (int i = 0; i < lessonCount; i++) {
+                lessons.add(BinaryEduLogFormat.readLesson(input, readString(input, maxCount)));
+            }
+            return new Index(generation, students, lessons);
+        }
+    }
+
+    /**
+     * Reads the generation of the records file that the index stored in {@code filePath} refers to.
+     *
+     * @throws IOException if the file could not be read or is not in this format.
+     */
+    static long readGeneration(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(filePath))) {
+            return readHeader(input);
+        }
+    }
+
+    /**
+     * Returns the record holding {@code contactDetails}.
+     */
+    static byte[] encodeRecord(ContactDetails contactDetails) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            writeString(output, contactDetails.getPhone().value);
+            writeString(output, contactDetails.getEmail().value);
+            writeString(output, contactDetails.getAddress().value);
+        } catch (IOException e) {
+            throw new AssertionError("Writing to a byte array cannot fail", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the contact details held in {@code record}.
+     *
+     * @throws IOException if {@code record} is not a whole record.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ContactDetails decodeRecord(byte[] record) throws IOException, IllegalValueException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(record));
+        String phone = readString(input, record.length);
+        String email = readString(input, record.length);
+        String address = readString(input, record.length);
+        if (input.available() > 0) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, "record longer than its contents"));
+        }
+
+        try {
+            return new ContactDetails(new Phone(phone), new Email(email), new Address(address));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static long readHeader(DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC_NUMBER) {
+            throw new IOException(MESSAGE_NOT_INDEX);
+        }
+        int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return input.readLong();
+    }
+
+    private static StudentEntry readStudent(DataInputStream input, Map<String, Tag> tags, long maxCount)
+            throws IOException, IllegalValueException {
+        String name = readString(input, maxCount);
+        boolean hasPaid = input.readBoolean();
+        int fee = input.readInt();
+        int tagCount = readCount(input, "tag count", maxCount);
+        List<String> tagNames = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(readString(input, maxCount));
+        }
+        long recordPosition = input.readLong();
+        int recordLength = input.readInt();
+
+        // the constructors validate their arguments, so they are not validated beforehand as well
+        try {
+            Set<Tag> studentTags = new HashSet<>();
+            for (String tagName : tagNames) {
+                studentTags.add(tags.computeIfAbsent(tagName, Tag::new));
+            }
+            return new StudentEntry(new Name(name), studentTags, hasPaid, new Fee(fee), recordPosition,
+                    recordLength);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input, long maxLength) throws IOException {
+        byte[] bytes = new byte[readCount(input, "string length", maxLength)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(DataInputStream input, String description, long maxCount) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || count > maxCount) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, description + " out of range"));
+        }
+        return count;
+    }
+
+    /**
+     * The contents of an index file.
+     */
+    static class Index {
+        final long generation;
+        final List<StudentEntry> students;
+        final List<Lesson> lessons;
+
+        Index(long generation, List<StudentEntry> students, List<Lesson> lessons) {
+            this.generation = generation;
+            this.students = students;
+            this.lessons = lessons;
+        }
+    }
+
+    /**
+     * A student in an index file, with the position and length of the record holding their contact details.
+     */
+    static class StudentEntry {
+        final Name name;
+        final Set<Tag> tags;
+        final boolean hasPaid;
+        final Fee fee;
+        final long recordPosition;
+        final int recordLength;
+
+        StudentEntry(Name name, Set<Tag> tags, boolean hasPaid, Fee fee, long recordPosition, int recordLength) {
+            this.name = name;
+            this.tags = tags;
+            this.hasPaid = hasPaid;
+            this.fee = fee;
+            this.recordPosition = recordPosition;
+            this.recordLength = recordLength;
+        }
+
+        /**
+         * Returns this student with their record at {@code recordPosition} instead.
+         */
+        StudentEntry withRecordPosition(long recordPosition) {
+            return new StudentEntry(name, tags, hasPaid, fee, recordPosition, recordLength);
+        }
+    }
+}
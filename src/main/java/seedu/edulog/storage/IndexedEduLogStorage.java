@@ -0,0 +1,414 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.commons.util.FileUtil;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.ReadOnlyEduLog;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.ContactDetails;
+import seedu.edulog.model.student.Student;
+
+/**
+ * A class to access EduLog data stored in the indexed format described in {@link IndexedEduLogFormat}.
+ * Reading the data only reads the index file, and the phone, email and address of each student are read from the
+ * records file when they are first needed, such as when the student is shown in the student list. Saving appends the
+ * records of new and edited students to the records file and then replaces the index, so the records of unchanged
+ * students are neither read nor written again, and a crash while saving leaves the index pointing at whole records.
+ * <br><br>
+ * The records of edited and deleted students stay in the records file until it is compacted by copying the records in
+ * use to a records file of the next generation. This is only done on the first read by each storage, when over half of
+ * the records file is unused, as students read earlier would still be loading their details from the old file.
+ */
+public class IndexedEduLogStorage implements EduLogStorage {
+
+    public static final String FILE_EXTENSION = ".idx";
+    public static final String RECORDS_FILE_SUFFIX = ".records.";
+
+    static final String MESSAGE_RECORD_OUT_OF_RANGE = "Record of student %s is outside records file %s";
+    static final String MESSAGE_RECORD_UNREADABLE = "Could not read the record at position %d of records file %s";
+
+    /** Records files smaller than this are never compacted, as little space would be saved. */
+    private static final long MIN_COMPACTION_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(IndexedEduLogStorage.class);
+
+    private final Path filePath;
+    private boolean hasRead;
+
+    /** The records saved by this storage to the records file at {@code savedRecordsFilePath}, by their contents. */
+    private final Map<ContactDetails, StoredContactDetails> savedRecords = new HashMap<>();
+    private Path savedRecordsFilePath;
+
+    /**
+     * Creates a storage for the EduLog with its index file at {@code filePath}.
+     */
+    public IndexedEduLogStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the index file kept in place of the JSON data file at {@code jsonFilePath}: the same path
+     * with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getIndexFilePath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the records file of the given {@code generation} for the index file at {@code filePath}.
+     */
+    public static Path getRecordsFilePath(Path filePath, long generation) {
+        return Paths.get(filePath + RECORDS_FILE_SUFFIX + generation);
+    }
+
+    @Override
+    public Path getEduLogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog() throws DataLoadingException {
+        return readEduLog(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyEduLog> readEduLog(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Index file " + filePath + " found.");
+
+        try {
+            IndexedEduLogFormat.Index index = IndexedEduLogFormat.read(filePath);
+            Path recordsFilePath = getRecordsFilePath(filePath, index.generation);
+            long recordsFileSize = Files.exists(recordsFilePath) ? Files.size(recordsFilePath) : 0;
+            checkRecordsInRange(index, recordsFilePath, recordsFileSize);
+
+            if (!hasRead && isWorthCompacting(index, recordsFileSize)) {
+                index = compactRecords(filePath, index);
+            }
+            hasRead = true;
+            return Optional.of(toEduLog(index, getRecordsFilePath(filePath, index.generation)));
+        } catch (IOException e) {
+            logger.warning("Error reading from index file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static void checkRecordsInRange(IndexedEduLogFormat.Index index, Path recordsFilePath,
+            long recordsFileSize) throws IOException {
+        for (IndexedEduLogFormat.StudentEntry student : index.students) {
+            if (student.recordPosition < 0 || student.recordLength < 0
+                    || student.recordPosition > recordsFileSize - student.recordLength) {
+                throw new IOException(String.format(MESSAGE_RECORD_OUT_OF_RANGE, student.name, recordsFilePath));
+            }
+        }
+    }
+
+    private static boolean isWorthCompacting(IndexedEduLogFormat.Index index, long recordsFileSize) {
+        if (recordsFileSize < MIN_COMPACTION_SIZE) {
+            return false;
+        }
+        return getRecordLengths(index).values().stream().mapToLong(Integer::longValue).sum() * 2 < recordsFileSize;
+    }
+
+    /**
+     * Returns the length of every record in use by {@code index}, by position. Students with the same contact details
+     * may share a record.
+     */
+    private static Map<Long, Integer> getRecordLengths(IndexedEduLogFormat.Index index) {
+        Map<Long, Integer> recordLengths = new HashMap<>();
+        for (IndexedEduLogFormat.StudentEntry student : index.students) {
+            recordLengths.put(student.recordPosition, student.recordLength);
+        }
+        return recordLengths;
+    }
+
+    /**
+     * Copies the records in use by {@code index} to a records file of a later generation, points the index file at
+     * {@code filePath} to it and deletes the old records file. Failures are logged, leaving the files as they are.
+     *
+     * @return the index of the compacted records, or {@code index} if compacting failed.
+     */
+    private static IndexedEduLogFormat.Index compactRecords(Path filePath, IndexedEduLogFormat.Index index) {
+        Path oldRecordsFilePath = getRecordsFilePath(filePath, index.generation);
+        long generation = getUnusedGeneration(filePath, index.generation + 1);
+        Path newRecordsFilePath = getRecordsFilePath(filePath, generation);
+
+        try {
+            Map<Long, Long> newPositions = new HashMap<>();
+            try (FileChannel source = FileChannel.open(oldRecordsFilePath, StandardOpenOption.READ);
+                    FileChannel target = FileChannel.open(newRecordsFilePath, StandardOpenOption.CREATE_NEW,
+                            StandardOpenOption.WRITE)) {
+                for (Map.Entry<Long, Integer> record : getRecordLengths(index).entrySet()) {
+                    newPositions.put(record.getKey(), target.position());
+                    transferFully(source, record.getKey(), record.getValue(), target);
+                }
+                target.force(true);
+            }
+
+            List<IndexedEduLogFormat.StudentEntry> students = new ArrayList<>();
+            for (IndexedEduLogFormat.StudentEntry student : index.students) {
+                students.add(student.withRecordPosition(newPositions.get(student.recordPosition)));
+            }
+            IndexedEduLogFormat.Index compactedIndex = new IndexedEduLogFormat.Index(generation, students,
+                    index.lessons);
+            FileUtil.writeAtomically(filePath, 0,
+                    tempFilePath -> IndexedEduLogFormat.write(compactedIndex, tempFilePath));
+
+            logger.info("Compacted records file " + oldRecordsFilePath + " into " + newRecordsFilePath);
+            deleteQuietly(oldRecordsFilePath);
+            return compactedIndex;
+        } catch (IOException e) {
+            logger.warning("Could not compact records file " + oldRecordsFilePath + ": " + e);
+            deleteQuietly(newRecordsFilePath);
+            return index;
+        }
+    }
+
+    private static void transferFully(FileChannel source, long position, int length, FileChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            long count = source.transferTo(position + transferred, length - transferred, target);
+            if (count <= 0) {
+                throw new EOFException("Records file ended before the record at position " + position);
+            }
+            transferred += count;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Could not delete " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the first generation from {@code generation} onwards with no records file for the index file at
+     * {@code filePath}, so that no student read earlier can be loading their details from it.
+     */
+    private static long getUnusedGeneration(Path filePath, long generation) {
+        while (Files.exists(getRecordsFilePath(filePath, generation))) {
+            generation++;
+        }
+        return generation;
+    }
+
+    private static EduLog toEduLog(IndexedEduLogFormat.Index index, Path recordsFilePath)
+            throws IllegalValueException {
+        EduLog eduLog = new EduLog();
+        Map<Long, StoredContactDetails> records = new HashMap<>();
+        for (IndexedEduLogFormat.StudentEntry entry : index.students) {
+            StoredContactDetails record = records.computeIfAbsent(entry.recordPosition, position ->
+                    new StoredContactDetails(recordsFilePath, position, entry.recordLength));
+            Student student = new Student(entry.name, entry.tags, entry.hasPaid, entry.fee, record);
+            if (eduLog.hasStudent(student)) {
+                throw new IllegalValueException(JsonSerializableEduLog.MESSAGE_DUPLICATE_STUDENT);
+            }
+            eduLog.addStudent(student);
+        }
+
+        for (Lesson lesson : index.lessons) {
+            if (eduLog.hasLesson(lesson)) {
+                throw new IllegalValueException(JsonSerializableEduLog.MESSAGE_DUPLICATE_LESSON);
+            }
+            eduLog.addLesson(lesson);
+        }
+        return eduLog;
+    }
+
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog) throws IOException {
+        saveEduLog(eduLog, filePath);
+    }
+
+    @Override
+    public synchronized void saveEduLog(ReadOnlyEduLog eduLog, Path filePath) throws IOException {
+        requireNonNull(eduLog);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        long generation = getRecordsGeneration(filePath);
+        Path recordsFilePath = getRecordsFilePath(filePath, generation);
+        if (!recordsFilePath.equals(savedRecordsFilePath)) {
+            savedRecords.clear();
+            savedRecordsFilePath = recordsFilePath;
+        }
+
+        List<IndexedEduLogFormat.StudentEntry> students = new ArrayList<>();
+        Map<ContactDetails, StoredContactDetails> newRecords = new HashMap<>();
+        try (FileChannel records = FileChannel.open(recordsFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            long endPosition = records.size();
+            ByteArrayOutputStream appendedRecords = new ByteArrayOutputStream();
+            for (Student student : eduLog.getStudentList()) {
+                StoredContactDetails record = findRecord(student, recordsFilePath, newRecords);
+                if (record == null) {
+                    ContactDetails contactDetails = getContactDetails(student);
+                    byte[] bytes = IndexedEduLogFormat.encodeRecord(contactDetails);
+                    record = new StoredContactDetails(recordsFilePath, endPosition + appendedRecords.size(),
+                            bytes.length, contactDetails);
+                    appendedRecords.write(bytes);
+                    newRecords.put(contactDetails, record);
+                }
+                students.add(new IndexedEduLogFormat.StudentEntry(student.getName(), student.getTags(),
+                        student.getHasPaid(), student.getFee(), record.position, record.length));
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(appendedRecords.toByteArray());
+            while (buffer.hasRemaining()) {
+                records.write(buffer, endPosition + buffer.position());
+            }
+            records.force(true);
+        }
+
+        IndexedEduLogFormat.Index index = new IndexedEduLogFormat.Index(generation, students,
+                new ArrayList<>(eduLog.getLessonList()));
+        FileUtil.writeAtomically(filePath, 0, tempFilePath -> IndexedEduLogFormat.write(index, tempFilePath));
+        // only remembered once the index refers to them, as the records may not have been written otherwise
+        savedRecords.putAll(newRecords);
+    }
+
+    /**
+     * Returns the generation of the records file to save to alongside the index file at {@code filePath}: that of
+     * the index file if it can be read and its records file exists, or else an unused generation.
+     */
+    private static long getRecordsGeneration(Path filePath) {
+        if (Files.exists(filePath)) {
+            try {
+                long generation = IndexedEduLogFormat.readGeneration(filePath);
+                if (Files.exists(getRecordsFilePath(filePath, generation))) {
+                    return generation;
+                }
+            } catch (IOException e) {
+                logger.warning("Error reading from index file " + filePath + ", which will be replaced: " + e);
+            }
+        }
+        return getUnusedGeneration(filePath, 0);
+    }
+
+    /**
+     * Returns the record already in the records file at {@code recordsFilePath} holding the contact details of
+     * {@code student}, or null if there is none. The details are only loaded if {@code student} was not read from
+     * that records file.
+     */
+    private StoredContactDetails findRecord(Student student, Path recordsFilePath,
+            Map<ContactDetails, StoredContactDetails> newRecords) throws IOException {
+        Optional<Supplier<ContactDetails>> loader = student.getContactDetailsLoader();
+        if (loader.isPresent() && loader.get() instanceof StoredContactDetails) {
+            StoredContactDetails record = (StoredContactDetails) loader.get();
+            if (record.recordsFilePath.equals(recordsFilePath)) {
+                return record;
+            }
+        }
+
+        ContactDetails contactDetails = getContactDetails(student);
+        StoredContactDetails record = savedRecords.get(contactDetails);
+        return record != null ? record : newRecords.get(contactDetails);
+    }
+
+    private static ContactDetails getContactDetails(Student student) throws IOException {
+        try {
+            return student.getContactDetails();
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void flushEduLog() {
+        // saves are written before saveEduLog returns
+    }
+
+    @Override
+    public void checkEduLogSaved() {
+        // failed saves are thrown from saveEduLog
+    }
+
+    /**
+     * The contact details of a student held in a record of a records file, which are read when first needed.
+     */
+    static class StoredContactDetails implements Supplier<ContactDetails> {
+        private final Path recordsFilePath;
+        private final long position;
+        private final int length;
+        private ContactDetails contactDetails;
+
+        StoredContactDetails(Path recordsFilePath, long position, int length) {
+            this(recordsFilePath, position, length, null);
+        }
+
+        StoredContactDetails(Path recordsFilePath, long position, int length, ContactDetails contactDetails) {
+            this.recordsFilePath = recordsFilePath;
+            this.position = position;
+            this.length = length;
+            this.contactDetails = contactDetails;
+        }
+
+        /**
+         * Returns true if the contact details have been read from the records file, or were known without reading it.
+         */
+        synchronized boolean isLoaded() {
+            return contactDetails != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws IllegalStateException if the record could not be read, such as when the records file was changed
+         *     or deleted after the index was read.
+         */
+        @Override
+        public synchronized ContactDetails get() {
+            if (contactDetails == null) {
+                contactDetails = readRecord();
+            }
+            return contactDetails;
+        }
+
+        private ContactDetails readRecord() {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            try (FileChannel records = FileChannel.open(recordsFilePath, StandardOpenOption.READ)) {
+                while (buffer.hasRemaining()) {
+                    if (records.read(buffer, position + buffer.position()) < 0) {
+                        throw new EOFException();
+                    }
+                }
+                return IndexedEduLogFormat.decodeRecord(buffer.array());
+            } catch (IOException | IllegalValueException e) {
+                throw new IllegalStateException(String.format(MESSAGE_RECORD_UNREADABLE, position, recordsFilePath),
+                        e);
+            }
+        }
+    }
+}
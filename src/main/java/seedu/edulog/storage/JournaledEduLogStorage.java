@@ -0,0 +1,418 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.collections.ListChangeListener;
+import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.commons.util.JsonUtil;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.ReadOnlyEduLog;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.Student;
+
+/**
+ * A class to access EduLog data stored as a data file, together with a journal of the changes made since the data
+ * file was last saved.
+ * <br><br>
+ * Instead of saving the whole data file after every command, the changes a command made to the student and lesson
+ * lists are appended to the journal as a single line, so the cost of a save grows with the size of the change rather
+ * than the size of the data. Commands that change nothing write nothing. Reading the data replays the journal over
+ * the data file.
+ * <br><br>
+ * To bound the time taken to replay the journal, it is compacted by saving the whole data file and starting an empty
+ * journal once it holds a given number of records. The same happens on the first save of every session, since the
+ * changes are tracked by listening to the lists of the EduLog being saved. The journal starts with a header
+ * identifying the data file it applies to, so a journal left behind by an interrupted compaction, or one paired with
+ * a data file that was edited by hand, is ignored rather than replayed over the wrong data.
+ */
+public class JournaledEduLogStorage implements EduLogStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledEduLogStorage.class);
+
+    private final EduLogStorage dataFileStorage;
+    private final Path journalPath;
+    private final int compactionThreshold;
+
+    private final List<JsonAdaptedListChange> pendingChanges = new ArrayList<>();
+    private final ListChangeListener<Student> studentListener = this::recordStudentChange;
+    private final ListChangeListener<Lesson> lessonListener = this::recordLessonChange;
+
+    /** The EduLog whose changes are being journaled, or null before the first save. */
+    private ReadOnlyEduLog journaledEduLog;
+    private int journalRecordCount;
+    /** Whether a record may have been left partly written at the end of the journal. */
+    private boolean isJournalDamaged;
+
+    /**
+     * Creates a storage for the EduLog at {@code filePath}, journaling changes next to it.
+     *
+     * @param compactionThreshold the number of records the journal may hold before it is compacted.
+     */
+    public JournaledEduLogStorage(Path filePath, int compactionThreshold) {
+        this(new JsonEduLogStorage(requireNonNull(filePath)), compactionThreshold);
+    }
+
+    /**
+     * Creates a storage for the EduLog saved by {@code dataFileStorage}, journaling changes next to its data file.
+     *
+     * @param compactionThreshold the number of records the journal may hold before it is compacted.
+     */
+    public JournaledEduLogStorage(EduLogStorage dataFileStorage, int compactionThreshold) {
+        requireNonNull(dataFileStorage);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive: " + compactionThreshold);
+        this.dataFileStorage = dataFileStorage;
+        this.journalPath = getJournalPath(dataFileStorage.getEduLogFilePath());
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return Paths.get(filePath + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Saves the records in the journal kept for {@code dataFileStorage}, if any, into its data file and deletes the
+     * journal, so that the data file is up to date for storages that do not replay the journal.
+     *
+     * @return true if any records were saved into the data file.
+     * @throws DataLoadingException if reading the data file or the journal failed.
+     * @throws IOException if saving the data file or deleting the journal failed.
+     */
+    public static boolean compactJournal(EduLogStorage dataFileStorage) throws DataLoadingException, IOException {
+        requireNonNull(dataFileStorage);
+        Path journalFilePath = getJournalPath(dataFileStorage.getEduLogFilePath());
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        boolean hasRecords = hasRecords(journalFilePath);
+        if (hasRecords) {
+            Optional<ReadOnlyEduLog> eduLog = new JournaledEduLogStorage(dataFileStorage, 1).readEduLog();
+            if (eduLog.isPresent()) {
+                dataFileStorage.saveEduLog(eduLog.get());
+                dataFileStorage.flushEduLog();
+                logger.info("Saved journal file " + journalFilePath + " into " + dataFileStorage.getEduLogFilePath());
+            }
+        }
+        Files.delete(journalFilePath);
+        return hasRecords;
+    }
+
+    private static boolean hasRecords(Path journalFilePath) throws DataLoadingException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            return reader.readLine() != null && reader.readLine() != null;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public Path getEduLogFilePath() {
+        return dataFileStorage.getEduLogFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog() throws DataLoadingException {
+        return readEduLog(getEduLogFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyEduLog> dataFileEduLog = dataFileStorage.readEduLog(filePath);
+        Path journalFilePath = getJournalPath(filePath);
+        if (dataFileEduLog.isEmpty() || !Files.exists(journalFilePath)) {
+            return dataFileEduLog;
+        }
+
+        try {
+            return Optional.of(replayJournal(dataFileEduLog.get(), filePath, journalFilePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the EduLog in the data file with the records of the journal applied over it.
+     * Replaying stops at the first record that cannot be read or applied, keeping the records before it, so that a
+     * damaged record costs only the changes from that point on rather than the whole EduLog.
+     */
+    private EduLog replayJournal(ReadOnlyEduLog dataFileEduLog, Path filePath, Path journalFilePath)
+            throws IOException {
+        EduLog eduLog = new EduLog(dataFileEduLog);
+        List<JsonAdaptedListChange[]> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !JournalHeader.of(filePath).equals(parseHeader(headerLine))) {
+                logger.warning("Journal file " + journalFilePath + " does not belong to " + filePath + ", ignoring it");
+                return eduLog;
+            }
+
+            String line = reader.readLine();
+            while (line != null) {
+                try {
+                    records.add(JsonUtil.fromJsonString(line, JsonAdaptedListChange[].class));
+                } catch (IOException e) {
+                    // the last record can be cut short by the app stopping while it was being written
+                    logger.warning("Ignoring unreadable record " + (records.size() + 1) + " and any records after it"
+                            + " in journal file " + journalFilePath + ": " + e.getMessage());
+                    break;
+                }
+                line = reader.readLine();
+            }
+        }
+
+        List<Student> students = new ArrayList<>(eduLog.getStudentList());
+        List<Lesson> lessons = new ArrayList<>(eduLog.getLessonList());
+        int recordCount = applyRecords(records, students, lessons, journalFilePath);
+        if (recordCount < records.size()) {
+            // the failed record may have been partly applied, so apply the records before it again from the start
+            students = new ArrayList<>(eduLog.getStudentList());
+            lessons = new ArrayList<>(eduLog.getLessonList());
+            applyRecords(records.subList(0, recordCount), students, lessons, journalFilePath);
+        }
+
+        try {
+            eduLog.setStudents(students);
+            eduLog.setLessons(lessons);
+        } catch (RuntimeException e) {
+            // duplicate students or lessons, which cannot be traced back to the record that introduced them
+            logger.warning("Ignoring journal file " + journalFilePath + " as replaying it gives invalid data: "
+                    + e.getMessage());
+            return new EduLog(dataFileEduLog);
+        }
+        logger.info("Replayed " + recordCount + " records from journal file " + journalFilePath);
+        return eduLog;
+    }
+
+    /**
+     * Applies {@code records} in order to {@code students} and {@code lessons}, stopping at the first record that
+     * cannot be applied.
+     *
+     * @return the number of records applied in full.
+     */
+    private static int applyRecords(List<JsonAdaptedListChange[]> records, List<Student> students,
+            List<Lesson> lessons, Path journalFilePath) {
+        int recordCount = 0;
+        for (JsonAdaptedListChange[] changes : records) {
+            try {
+                for (JsonAdaptedListChange change : changes) {
+                    change.applyTo(students, lessons);
+                }
+            } catch (IllegalValueException ive) {
+                logger.warning("Ignoring invalid record " + (recordCount + 1) + " and any records after it"
+                        + " in journal file " + journalFilePath + ": " + ive.getMessage());
+                break;
+            }
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    private static JournalHeader parseHeader(String headerLine) {
+        try {
+            return JsonUtil.fromJsonString(headerLine, JournalHeader.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog) throws IOException {
+        saveEduLog(eduLog, getEduLogFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveEduLog(ReadOnlyEduLog)}.
+     * Only saves to the journal if {@code filePath} is the data file of this storage; otherwise the whole EduLog is
+     * saved to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog, Path filePath) throws IOException {
+        requireNonNull(eduLog);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getEduLogFilePath())) {
+            dataFileStorage.saveEduLog(eduLog, filePath);
+            return;
+        }
+
+        if (eduLog != journaledEduLog) {
+            startJournaling(eduLog);
+            return;
+        }
+
+        if (isJournalDamaged || Files.notExists(journalPath)) {
+            compact();
+            return;
+        }
+
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        appendRecord();
+        if (journalRecordCount >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    @Override
+    public void flushEduLog() {
+        // records are appended before saveEduLog returns
+    }
+
+    @Override
+    public void checkEduLogSaved() {
+        // failed appends are thrown from saveEduLog
+    }
+
+    /**
+     * Starts tracking the changes made to {@code eduLog}, saving it whole as the base for the journal.
+     */
+    private void startJournaling(ReadOnlyEduLog eduLog) throws IOException {
+        if (journaledEduLog != null) {
+            journaledEduLog.getStudentList().removeListener(studentListener);
+            journaledEduLog.getLessonList().removeListener(lessonListener);
+        }
+        journaledEduLog = eduLog;
+        eduLog.getStudentList().addListener(studentListener);
+        eduLog.getLessonList().addListener(lessonListener);
+        compact();
+    }
+
+    /**
+     * Saves the whole EduLog to the data file and starts an empty journal for it.
+     */
+    private void compact() throws IOException {
+        Path filePath = getEduLogFilePath();
+        dataFileStorage.saveEduLog(journaledEduLog, filePath);
+        String header = JsonUtil.toCompactJsonString(JournalHeader.of(filePath));
+        Files.write(journalPath, List.of(header), StandardCharsets.UTF_8);
+        pendingChanges.clear();
+        journalRecordCount = 0;
+        isJournalDamaged = false;
+    }
+
+    /**
+     * Appends the pending changes to the journal as one record.
+     * If the record cannot be written in full, the journal is cut back to where it was, so that a partly written
+     * record is not joined to the next one; failing that, the next save compacts the journal instead.
+     */
+    private void appendRecord() throws IOException {
+        String record = JsonUtil.toCompactJsonString(pendingChanges);
+        long journalLength = Files.size(journalPath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND)) {
+            writer.write(record);
+            writer.newLine();
+        } catch (IOException e) {
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(journalLength);
+            } catch (IOException truncateException) {
+                e.addSuppressed(truncateException);
+                isJournalDamaged = true;
+            }
+            throw e;
+        }
+        pendingChanges.clear();
+        journalRecordCount++;
+    }
+
+    private void recordStudentChange(ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int size = change.getTo() - change.getFrom();
+                pendingChanges.add(JsonAdaptedListChange.ofStudents(change.getFrom(), size,
+                        change.getList().subList(change.getFrom(), change.getTo())));
+            } else {
+                pendingChanges.add(JsonAdaptedListChange.ofStudents(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+            }
+        }
+    }
+
+    private void recordLessonChange(ListChangeListener.Change<? extends Lesson> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int size = change.getTo() - change.getFrom();
+                pendingChanges.add(JsonAdaptedListChange.ofLessons(change.getFrom(), size,
+                        change.getList().subList(change.getFrom(), change.getTo())));
+            } else {
+                pendingChanges.add(JsonAdaptedListChange.ofLessons(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+            }
+        }
+    }
+
+    /**
+     * Identifies the data file a journal applies to by the data file's size and last modified time at the point the
+     * journal was started.
+     */
+    static class JournalHeader {
+        private final long dataFileSize;
+        private final long dataFileLastModified;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("dataFileSize") long dataFileSize,
+                @JsonProperty("dataFileLastModified") long dataFileLastModified) {
+            this.dataFileSize = dataFileSize;
+            this.dataFileLastModified = dataFileLastModified;
+        }
+
+        static JournalHeader of(Path filePath) throws IOException {
+            return new JournalHeader(Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof JournalHeader)) {
+                return false;
+            }
+
+            JournalHeader otherHeader = (JournalHeader) other;
+            return dataFileSize == otherHeader.dataFileSize
+                    && dataFileLastModified == otherHeader.dataFileLastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(new long[] {dataFileSize, dataFileLastModified});
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.edulog.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.Student;
+import seedu.edulog.storage.lesson.JsonAdaptedLesson;
+
+/**
+ * Jackson-friendly record of a change to the student or lesson list of an EduLog: a run of elements starting at
+ * some position was replaced with other elements. Additions and removals are replacements where one side is empty.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedListChange {
+
+    public static final String STUDENTS = "students";
+    public static final String LESSONS = "lessons";
+    public static final String MESSAGE_UNKNOWN_LIST = "Journal refers to an unknown list: %s";
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal does not match the data file: "
+            + "cannot replace %d %s at position %d of %d";
+
+    private final String list;
+    private final int at;
+    private final int removed;
+    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("list") String list, @JsonProperty("at") int at,
+            @JsonProperty("removed") int removed, @JsonProperty("students") List<JsonAdaptedStudent> students,
+            @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.list = list;
+        this.at = at;
+        this.removed = removed;
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    /**
+     * Returns a record of {@code removed} students starting at position {@code at} being replaced with {@code added}.
+     */
+    public static JsonAdaptedListChange ofStudents(int at, int removed, List<? extends Student> added) {
+        JsonAdaptedListChange change = new JsonAdaptedListChange(STUDENTS, at, removed, null, null);
+        added.forEach(student -> change.students.add(new JsonAdaptedStudent(student)));
+        return change;
+    }
+
+    /**
+     * Returns a record of {@code removed} lessons starting at position {@code at} being replaced with {@code added}.
+     */
+    public static JsonAdaptedListChange ofLessons(int at, int removed, List<? extends Lesson> added) {
+        JsonAdaptedListChange change = new JsonAdaptedListChange(LESSONS, at, removed, null, null);
+        added.forEach(lesson -> change.lessons.add(new JsonAdaptedLesson(lesson)));
+        return change;
+    }
+
+    /**
+     * Applies this change to whichever of {@code studentList} and {@code lessonList} it was recorded from.
+     * The lists are not checked for duplicates.
+     *
+     * @throws IllegalValueException if the change does not fit the list, or any data constraints were violated.
+     */
+    public void applyTo(List<Student> studentList, List<Lesson> lessonList) throws IllegalValueException {
+        if (STUDENTS.equals(list)) {
+            List<Student> added = new ArrayList<>(students.size());
+            for (JsonAdaptedStudent student : students) {
+                added.add(student.toModelType());
+            }
+            replace(studentList, added);
+        } else if (LESSONS.equals(list)) {
+            List<Lesson> added = new ArrayList<>(lessons.size());
+            for (JsonAdaptedLesson lesson : lessons) {
+                added.add(lesson.toModelType());
+            }
+            replace(lessonList, added);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, list));
+        }
+    }
+
+    private <T> void replace(List<T> target, List<T> added) throws IllegalValueException {
+        if (at < 0 || removed < 0 || at + removed > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_RANGE, removed, list, at, target.size()));
+        }
+        target.subList(at, at + removed).clear();
+        target.addAll(at, added);
+    }
+}
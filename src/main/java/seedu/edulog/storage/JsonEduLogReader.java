@@ -0,0 +1,99 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.commons.util.JsonUtil;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.storage.lesson.JsonAdaptedLesson;
+
+/**
+ * Reads an EduLog from a JSON file in the format of {@link JsonSerializableEduLog}, one student or lesson at a time.
+ * Students are converted to their model type in batches as they are parsed, and lessons as soon as they are parsed,
+ * so neither the file contents nor the full list of Jackson-friendly objects is held in memory while loading.
+ */
+class JsonEduLogReader {
+
+    private static final String STUDENTS_FIELD = "students";
+    private static final String LESSONS_FIELD = "lessons";
+    private static final int STUDENT_BATCH_SIZE = 4096;
+
+    /**
+     * Reads the EduLog stored in {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static EduLog read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an EduLog object");
+            }
+
+            EduLog eduLog = new EduLog();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (STUDENTS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    readStudents(parser, eduLog);
+                } else if (LESSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    readLessons(parser, eduLog);
+                } else {
+                    // unknown fields are ignored, as when deserializing a JsonSerializableEduLog
+                    parser.skipChildren();
+                }
+            }
+            return eduLog;
+        }
+    }
+
+    /**
+     * Reads the students in batches of {@link #STUDENT_BATCH_SIZE}, converting each batch in parallel while only
+     * holding that batch of Jackson-friendly objects in memory.
+     */
+    private static void readStudents(JsonParser parser, EduLog eduLog) throws IOException, IllegalValueException {
+        StudentListConverter converter = new StudentListConverter();
+        List<JsonAdaptedStudent> batch = new ArrayList<>(STUDENT_BATCH_SIZE);
+        while (nextArrayElement(parser)) {
+            batch.add(JsonUtil.readValue(parser, JsonAdaptedStudent.class));
+            if (batch.size() == STUDENT_BATCH_SIZE) {
+                converter.add(batch);
+                batch.clear();
+            }
+        }
+        converter.add(batch);
+        eduLog.setStudents(converter.getStudents());
+    }
+
+    private static void readLessons(JsonParser parser, EduLog eduLog) throws IOException, IllegalValueException {
+        while (nextArrayElement(parser)) {
+            Lesson lesson = JsonUtil.readValue(parser, JsonAdaptedLesson.class).toModelType();
+            if (eduLog.hasLesson(lesson)) {
+                throw new IllegalValueException(JsonSerializableEduLog.MESSAGE_DUPLICATE_LESSON);
+            }
+            eduLog.addLesson(lesson);
+        }
+    }
+
+    /**
+     * Advances {@code parser} to the next element of the current array, returning false at the end of the array.
+     */
+    private static boolean nextArrayElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of file");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+}
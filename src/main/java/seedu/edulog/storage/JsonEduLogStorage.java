@@ -1,8 +1,10 @@
 package seedu.edulog.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +13,51 @@ import seedu.edulog.commons.core.LogsCenter;
 import seedu.edulog.commons.exceptions.DataLoadingException;
 import seedu.edulog.commons.exceptions.IllegalValueException;
 import seedu.edulog.commons.util.FileUtil;
-import seedu.edulog.commons.util.JsonUtil;
 import seedu.edulog.model.ReadOnlyEduLog;
 
 /**
  * A class to access EduLog data stored as a json file on the hard disk.
+ * Files whose names end with {@link FileUtil#COMPRESSED_FILE_EXTENSION} are saved compressed with gzip, and
+ * gzip-compressed files are recognised by their contents when read.
  */
 public class JsonEduLogStorage implements EduLogStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonEduLogStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isAtomicSaveEnabled;
+    private final int backupCount;
 
     public JsonEduLogStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the EduLog at {@code filePath}, which saves by overwriting the file in place.
+     *
+     * @param isPrettyPrinted whether the saved file is indented for human readers. Compact files are smaller and
+     *     faster to save.
+     */
+    public JsonEduLogStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false, 0);
+    }
+
+    /**
+     * Creates a storage for the EduLog at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the saved file is indented for human readers. Compact files are smaller and
+     *     faster to save.
+     * @param isAtomicSaveEnabled whether saves are written to a temporary file that then replaces the data file,
+     *     so that a crash while saving cannot leave the data file partly written.
+     * @param backupCount the number of previous versions of the data file kept when saving atomically.
+     */
+    public JsonEduLogStorage(Path filePath, boolean isPrettyPrinted, boolean isAtomicSaveEnabled, int backupCount) {
+        checkArgument(backupCount >= 0, "Backup count must not be negative: " + backupCount);
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isAtomicSaveEnabled = isAtomicSaveEnabled;
+        this.backupCount = backupCount;
     }
 
     public Path getEduLogFilePath() {
@@ -45,14 +78,17 @@ public class JsonEduLogStorage implements EduLogStorage {
     public Optional<ReadOnlyEduLog> readEduLog(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEduLog> jsonEduLog = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEduLog.class);
-        if (!jsonEduLog.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        // students and lessons are converted as they are read, instead of after the whole file has been parsed
         try {
-            return Optional.of(jsonEduLog.get().toModelType());
+            return Optional.of(JsonEduLogReader.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +102,7 @@ public class JsonEduLogStorage implements EduLogStorage {
 
     /**
      * Similar to {@link #saveEduLog(ReadOnlyEduLog)}.
+     * The file is compressed with gzip if its name ends with {@link FileUtil#COMPRESSED_FILE_EXTENSION}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +110,26 @@ public class JsonEduLogStorage implements EduLogStorage {
         requireNonNull(eduLog);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEduLog(eduLog), filePath);
+        boolean isCompressed = FileUtil.isCompressedPath(filePath);
+        if (!isAtomicSaveEnabled) {
+            FileUtil.createIfMissing(filePath);
+            // students and lessons are written as they are converted, instead of building the whole file in memory
+            JsonEduLogWriter.write(eduLog, filePath, isPrettyPrinted, isCompressed);
+            return;
+        }
+
+        FileUtil.writeAtomically(filePath, backupCount,
+                tempFilePath -> JsonEduLogWriter.write(eduLog, tempFilePath, isPrettyPrinted, isCompressed));
+    }
+
+    @Override
+    public void flushEduLog() {
+        // saves are written before saveEduLog returns
+    }
+
+    @Override
+    public void checkEduLogSaved() {
+        // failed saves are thrown from saveEduLog
     }
 
 }
@@ -0,0 +1,54 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.edulog.commons.util.JsonUtil;
+import seedu.edulog.model.ReadOnlyEduLog;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.Student;
+import seedu.edulog.storage.lesson.JsonAdaptedLesson;
+
+/**
+ * Writes an EduLog to a JSON file in the format of {@link JsonSerializableEduLog}, one student or lesson at a time.
+ * Each student and lesson is converted to its Jackson-friendly form just before it is written, so neither the full
+ * list of Jackson-friendly objects nor the JSON text of the whole EduLog is held in memory while saving.
+ */
+class JsonEduLogWriter {
+
+    private static final String STUDENTS_FIELD = "students";
+    private static final String LESSONS_FIELD = "lessons";
+
+    /**
+     * Writes {@code eduLog} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @param isPrettyPrinted whether the output is indented for human readers.
+     * @param isCompressed whether the output is compressed with gzip.
+     */
+    static void write(ReadOnlyEduLog eduLog, Path filePath, boolean isPrettyPrinted, boolean isCompressed)
+            throws IOException {
+        requireNonNull(eduLog);
+        requireNonNull(filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isPrettyPrinted, isCompressed)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            for (Student student : eduLog.getStudentList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedStudent(student));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(LESSONS_FIELD);
+            for (Lesson lesson : eduLog.getLessonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedLesson(lesson));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -12,7 +12,6 @@ import seedu.edulog.commons.exceptions.IllegalValueException;
 import seedu.edulog.model.EduLog;
 import seedu.edulog.model.ReadOnlyEduLog;
 import seedu.edulog.model.calendar.Lesson;
-import seedu.edulog.model.student.Student;
 import seedu.edulog.storage.lesson.JsonAdaptedLesson;
 
 /**
@@ -49,18 +48,13 @@ class JsonSerializableEduLog {
 
     /**
      * Converts this edulog book into the model's {@code EduLog} object.
+     * The students are converted in parallel, and all invalid or duplicate students are reported together.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public EduLog toModelType() throws IllegalValueException {
         EduLog eduLog = new EduLog();
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (eduLog.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            eduLog.addStudent(student);
-        }
+        eduLog.setStudents(StudentListConverter.convert(students));
 
         for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
             Lesson lesson = jsonAdaptedLesson.toModelType();
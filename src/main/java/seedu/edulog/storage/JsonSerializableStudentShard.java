@@ -0,0 +1,71 @@
+package seedu.edulog.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.model.student.Student;
+
+/**
+ * Jackson-friendly version of one shard of the students of an EduLog, together with the rank of each student, which
+ * orders the students of every shard within the whole student list.
+ */
+class JsonSerializableStudentShard {
+
+    public static final String MESSAGE_RANKS_MISMATCH = "Student shard has %d ranks for %d students.";
+    public static final String MESSAGE_MISSING_RANK = "Student shard is missing the rank of student %d.";
+
+    private final List<Long> ranks = new ArrayList<>();
+    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableStudentShard} with the given ranks and students.
+     */
+    @JsonCreator
+    public JsonSerializableStudentShard(@JsonProperty("ranks") List<Long> ranks,
+            @JsonProperty("students") List<JsonAdaptedStudent> students) {
+        if (ranks != null) {
+            this.ranks.addAll(ranks);
+        }
+        if (students != null) {
+            this.students.addAll(students);
+        }
+    }
+
+    /**
+     * Converts the given students, ranked by {@code rankOf}, into this class for Jackson use.
+     */
+    public JsonSerializableStudentShard(List<Student> students, ToLongFunction<Student> rankOf) {
+        for (Student student : students) {
+            ranks.add(rankOf.applyAsLong(student));
+            this.students.add(new JsonAdaptedStudent(student));
+        }
+    }
+
+    public List<Long> getRanks() {
+        return Collections.unmodifiableList(ranks);
+    }
+
+    /**
+     * Converts the students of this shard into the model's {@code Student} objects, in the order of their ranks in
+     * {@link #getRanks()}. They are only checked for duplicates within this shard.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Student> toModelType() throws IllegalValueException {
+        if (ranks.size() != students.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_RANKS_MISMATCH, ranks.size(), students.size()));
+        }
+        for (int i = 0; i < ranks.size(); i++) {
+            if (ranks.get(i) == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RANK, i + 1));
+            }
+        }
+        return StudentListConverter.convert(students);
+    }
+}
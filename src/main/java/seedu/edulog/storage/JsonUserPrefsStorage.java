@@ -3,7 +3,10 @@ package seedu.edulog.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.core.StorageSettings;
 import seedu.edulog.commons.exceptions.DataLoadingException;
 import seedu.edulog.commons.util.JsonUtil;
 import seedu.edulog.model.ReadOnlyUserPrefs;
@@ -14,6 +17,8 @@ import seedu.edulog.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,11 +37,22 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * Storage settings that are out of range are replaced by their defaults.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataLoadingException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.ifPresent(prefs -> {
+            StorageSettings storageSettings = prefs.getStorageSettings();
+            StorageSettings validStorageSettings = storageSettings.withInvalidValuesReset();
+            if (!validStorageSettings.equals(storageSettings)) {
+                logger.warning("Invalid storage settings in preference file " + prefsFilePath + ": "
+                        + storageSettings + ". Using " + validStorageSettings + " instead.");
+                prefs.setStorageSettings(validStorageSettings);
+            }
+        });
+        return userPrefs;
     }
 
     @Override
@@ -0,0 +1,484 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edulog.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.commons.util.FileUtil;
+import seedu.edulog.commons.util.JsonUtil;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.ReadOnlyEduLog;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.Student;
+import seedu.edulog.storage.lesson.JsonAdaptedLesson;
+
+/**
+ * A class to access EduLog data stored as several json files in a directory: the students are split into a fixed
+ * number of shards by the hash of their names, and the lessons are kept in a file of their own.
+ * <br><br>
+ * Saving only rewrites the files whose contents changed since they were last saved or read, so a command that changes
+ * one student rewrites one shard rather than every student. The files to rewrite are written in parallel, and the
+ * files are read in parallel when loading. Each file is written atomically, so a crash while saving can leave the
+ * files out of step with each other by at most the changes of that save, but never leaves a file partly written.
+ * <br><br>
+ * Every student is saved with a rank, which orders the students of every shard within the whole student list.
+ * Ranks are spaced out, so a student added or edited between two others can usually be ranked without changing the
+ * rank of any other student, and so without rewriting their shards.
+ * <br><br>
+ * Instances are not safe for use by more than one thread at a time.
+ */
+public class ShardedEduLogStorage implements EduLogStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String LESSONS_FILE_NAME = "lessons.json";
+
+    private static final String STUDENT_SHARD_FILE_NAME_FORMAT = "students-%d.json";
+    private static final Pattern STUDENT_SHARD_FILE_NAME = Pattern.compile("students-(\\d+)\\.json");
+    private static final long RANK_GAP = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedEduLogStorage.class);
+
+    private final Path directoryPath;
+    private final int shardCount;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "EduLog shard worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The rank of every student last saved or read, by identity. */
+    private final Map<Student, Long> ranks = new IdentityHashMap<>();
+    /** The students of each shard file as last saved or read, or null if the files are not known to be up to date. */
+    private Map<Integer, List<Student>> savedShards;
+    /** The lessons as last saved or read, or null if the lessons file is not known to be up to date. */
+    private List<Lesson> savedLessons;
+
+    /**
+     * Creates a storage for the EduLog in the directory at {@code directoryPath}.
+     *
+     * @param shardCount the number of shards the students are split into.
+     */
+    public ShardedEduLogStorage(Path directoryPath, int shardCount) {
+        requireNonNull(directoryPath);
+        checkArgument(shardCount > 0, "Shard count must be positive: " + shardCount);
+        this.directoryPath = directoryPath;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the path of the directory of shards kept in place of the data file at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return Paths.get(filePath + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the shard {@code student} is saved in, out of {@code shardCount} shards.
+     */
+    static int getShardIndex(Student student, int shardCount) {
+        return Math.floorMod(student.getName().fullName.hashCode(), shardCount);
+    }
+
+    static Path getStudentShardPath(Path directoryPath, int shardIndex) {
+        return directoryPath.resolve(String.format(STUDENT_SHARD_FILE_NAME_FORMAT, shardIndex));
+    }
+
+    @Override
+    public Path getEduLogFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog() throws DataLoadingException {
+        return readEduLog(directoryPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog(Path directoryPath) throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        if (!Files.isDirectory(directoryPath)) {
+            return Optional.empty();
+        }
+        logger.info("Shard directory " + directoryPath + " found.");
+
+        try {
+            List<Callable<StudentShard>> studentTasks = new ArrayList<>();
+            for (int shardIndex : findStudentShardIndexes(directoryPath)) {
+                studentTasks.add(() -> readStudentShard(directoryPath, shardIndex));
+            }
+            Future<List<Lesson>> lessonsResult = executor.submit(() -> readLessons(directoryPath));
+            List<StudentShard> studentShards = new ArrayList<>();
+            for (Future<StudentShard> result : executor.invokeAll(studentTasks)) {
+                studentShards.add(result.get());
+            }
+            List<Lesson> lessons = lessonsResult.get();
+
+            EduLog eduLog = merge(studentShards, lessons);
+            if (directoryPath.equals(this.directoryPath)) {
+                rememberSaved(studentShards, lessons);
+            }
+            return Optional.of(eduLog);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            logger.warning("Error reading from shard directory " + directoryPath + ": " + cause);
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            }
+            throw new DataLoadingException(cause instanceof Exception ? (Exception) cause : e);
+        } catch (IOException e) {
+            logger.warning("Error reading from shard directory " + directoryPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static StudentShard readStudentShard(Path directoryPath, int shardIndex)
+            throws DataLoadingException, IllegalValueException {
+        Path shardPath = getStudentShardPath(directoryPath, shardIndex);
+        JsonSerializableStudentShard shard = JsonUtil.readJsonFile(shardPath, JsonSerializableStudentShard.class)
+                .orElseThrow(() -> new DataLoadingException(new IOException("Missing shard file " + shardPath)));
+        return new StudentShard(shardIndex, shard.getRanks(), shard.toModelType());
+    }
+
+    private static List<Lesson> readLessons(Path directoryPath) throws DataLoadingException, IllegalValueException {
+        Optional<JsonSerializableEduLog> lessons =
+                JsonUtil.readJsonFile(directoryPath.resolve(LESSONS_FILE_NAME), JsonSerializableEduLog.class);
+        if (lessons.isEmpty()) {
+            return List.of();
+        }
+        return new ArrayList<>(lessons.get().toModelType().getLessonList());
+    }
+
+    /**
+     * Returns the EduLog with the students of {@code studentShards} in the order of their ranks, and {@code lessons}.
+     */
+    private static EduLog merge(List<StudentShard> studentShards, List<Lesson> lessons) throws IllegalValueException {
+        List<RankedStudent> rankedStudents = new ArrayList<>();
+        for (StudentShard shard : studentShards) {
+            for (int i = 0; i < shard.students.size(); i++) {
+                rankedStudents.add(new RankedStudent(shard.ranks.get(i), shard.students.get(i)));
+            }
+        }
+        rankedStudents.sort(Comparator.comparingLong(rankedStudent -> rankedStudent.rank));
+
+        EduLog eduLog = new EduLog();
+        try {
+            eduLog.setStudents(rankedStudents.stream()
+                    .map(rankedStudent -> rankedStudent.student)
+                    .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            throw new IllegalValueException(JsonSerializableEduLog.MESSAGE_DUPLICATE_STUDENT, e);
+        }
+        eduLog.setLessons(lessons);
+        return eduLog;
+    }
+
+    private void rememberSaved(List<StudentShard> studentShards, List<Lesson> lessons) {
+        ranks.clear();
+        savedShards = new HashMap<>();
+        for (StudentShard shard : studentShards) {
+            for (int i = 0; i < shard.students.size(); i++) {
+                ranks.put(shard.students.get(i), shard.ranks.get(i));
+            }
+            List<Student> shardStudents = new ArrayList<>(shard.students);
+            shardStudents.sort(Comparator.comparingLong(ranks::get));
+            savedShards.put(shard.index, shardStudents);
+        }
+        savedLessons = lessons;
+    }
+
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog) throws IOException {
+        saveEduLog(eduLog, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveEduLog(ReadOnlyEduLog)}.
+     * Only rewrites the files that changed if {@code directoryPath} is the directory of this storage; otherwise every
+     * file is written.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog, Path directoryPath) throws IOException {
+        requireNonNull(eduLog);
+        requireNonNull(directoryPath);
+        Files.createDirectories(directoryPath);
+
+        if (!directoryPath.equals(this.directoryPath)) {
+            Map<Student, Long> newRanks = new IdentityHashMap<>();
+            rankInOrder(eduLog.getStudentList(), newRanks);
+            writeFiles(directoryPath, partition(eduLog.getStudentList()), findStudentShardIndexes(directoryPath),
+                    eduLog.getLessonList(), newRanks);
+            return;
+        }
+
+        Set<Integer> rerankedShards = updateRanks(eduLog.getStudentList());
+        Map<Integer, List<Student>> shards = partition(eduLog.getStudentList());
+        TreeSet<Integer> candidateIndexes = new TreeSet<>(shards.keySet());
+        if (savedShards == null) {
+            // the files on disk are unknown, so any shard file may be stale
+            candidateIndexes.addAll(findStudentShardIndexes(directoryPath));
+        } else {
+            candidateIndexes.addAll(savedShards.keySet());
+        }
+
+        Map<Integer, List<Student>> dirtyShards = new HashMap<>();
+        List<Integer> shardsToDelete = new ArrayList<>();
+        for (int shardIndex : candidateIndexes) {
+            List<Student> shardStudents = shards.getOrDefault(shardIndex, List.of());
+            List<Student> savedStudents = savedShards == null ? null : savedShards.get(shardIndex);
+            boolean wasReranked = rerankedShards == null || rerankedShards.contains(shardIndex);
+            if (!wasReranked && isSameStudents(shardStudents, savedStudents)) {
+                continue;
+            }
+            if (shardStudents.isEmpty()) {
+                shardsToDelete.add(shardIndex);
+            } else {
+                dirtyShards.put(shardIndex, shardStudents);
+            }
+        }
+        boolean areLessonsDirty = savedLessons == null || !savedLessons.equals(eduLog.getLessonList());
+
+        // forget what was saved until every write succeeds, so a failed save is retried in full
+        savedShards = null;
+        savedLessons = null;
+        writeFiles(directoryPath, dirtyShards, shardsToDelete, areLessonsDirty ? eduLog.getLessonList() : null, ranks);
+        logger.fine("Saved " + dirtyShards.size() + " of " + shardCount + " student shards"
+                + (areLessonsDirty ? " and the lessons" : ""));
+
+        shards.values().removeIf(List::isEmpty);
+        savedShards = shards;
+        savedLessons = new ArrayList<>(eduLog.getLessonList());
+    }
+
+    /**
+     * Writes the given shards and lessons to {@code directoryPath} in parallel, and deletes the shard files in
+     * {@code shardsToDelete}.
+     *
+     * @param lessons the lessons to write, or null if the lessons file is to be left as it is.
+     */
+    private void writeFiles(Path directoryPath, Map<Integer, List<Student>> shards, Iterable<Integer> shardsToDelete,
+            List<Lesson> lessons, Map<Student, Long> ranks) throws IOException {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        shards.forEach((shardIndex, shardStudents) -> tasks.add(() -> {
+            JsonSerializableStudentShard shard = new JsonSerializableStudentShard(shardStudents, ranks::get);
+            FileUtil.writeAtomically(getStudentShardPath(directoryPath, shardIndex), 0,
+                    tempFilePath -> JsonUtil.saveJsonFile(shard, tempFilePath));
+            return null;
+        }));
+        for (int shardIndex : shardsToDelete) {
+            if (!shards.containsKey(shardIndex)) {
+                tasks.add(() -> {
+                    Files.deleteIfExists(getStudentShardPath(directoryPath, shardIndex));
+                    return null;
+                });
+            }
+        }
+        if (lessons != null) {
+            JsonSerializableEduLog lessonsFile = new JsonSerializableEduLog(List.of(),
+                    lessons.stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
+            tasks.add(() -> {
+                FileUtil.writeAtomically(directoryPath.resolve(LESSONS_FILE_NAME), 0,
+                        tempFilePath -> JsonUtil.saveJsonFile(lessonsFile, tempFilePath));
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while saving shards to " + directoryPath);
+        }
+    }
+
+    @Override
+    public void flushEduLog() {
+        // saves are written before saveEduLog returns
+    }
+
+    @Override
+    public void checkEduLogSaved() {
+        // failed saves are thrown from saveEduLog
+    }
+
+    /**
+     * Ranks {@code students} in order, keeping the rank of every student that has one where possible. A student whose
+     * rank is out of order, such as one that was moved, is ranked again as if it were new.
+     *
+     * @return the shards of the students that had a rank that was changed, or null if every student was ranked again.
+     */
+    private Set<Integer> updateRanks(List<Student> students) {
+        Map<Student, Long> newRanks = new IdentityHashMap<>();
+        long previousRank = 0;
+        int unrankedStart = 0;
+        for (int i = 0; i < students.size(); i++) {
+            Long rank = ranks.get(students.get(i));
+            if (rank == null || rank <= previousRank) {
+                continue;
+            }
+            if (!rankBetween(students, unrankedStart, i, previousRank, rank, newRanks)) {
+                // there is no room between two ranks
+                ranks.clear();
+                rankInOrder(students, ranks);
+                return null;
+            }
+            newRanks.put(students.get(i), rank);
+            previousRank = rank;
+            unrankedStart = i + 1;
+        }
+        long lastRank = previousRank + (students.size() - unrankedStart + 1) * RANK_GAP;
+        rankBetween(students, unrankedStart, students.size(), previousRank, lastRank, newRanks);
+
+        Set<Integer> rerankedShards = new HashSet<>();
+        for (Student student : students) {
+            Long oldRank = ranks.get(student);
+            if (oldRank != null && !oldRank.equals(newRanks.get(student))) {
+                rerankedShards.add(getShardIndex(student, shardCount));
+            }
+        }
+        ranks.clear();
+        ranks.putAll(newRanks);
+        return rerankedShards;
+    }
+
+    /**
+     * Ranks the students from index {@code from} to {@code to} (exclusive) evenly between {@code lowRank} and
+     * {@code highRank} (both exclusive), returning false if there is not enough room.
+     */
+    private static boolean rankBetween(List<Student> students, int from, int to, long lowRank, long highRank,
+            Map<Student, Long> ranks) {
+        long step = (highRank - lowRank) / (to - from + 1);
+        if (step == 0) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            ranks.put(students.get(i), lowRank + step * (i - from + 1));
+        }
+        return true;
+    }
+
+    private static void rankInOrder(List<Student> students, Map<Student, Long> ranks) {
+        for (int i = 0; i < students.size(); i++) {
+            ranks.put(students.get(i), (i + 1) * RANK_GAP);
+        }
+    }
+
+    /**
+     * Returns the students in each non-empty shard, in the order of {@code students}.
+     */
+    private Map<Integer, List<Student>> partition(List<Student> students) {
+        Map<Integer, List<Student>> shards = new HashMap<>();
+        for (Student student : students) {
+            shards.computeIfAbsent(getShardIndex(student, shardCount), unused -> new ArrayList<>()).add(student);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns true if {@code students} are the same objects as {@code savedStudents}, in the same order.
+     */
+    private static boolean isSameStudents(List<Student> students, List<Student> savedStudents) {
+        if (savedStudents == null) {
+            return false;
+        }
+        if (students.size() != savedStudents.size()) {
+            return false;
+        }
+        for (int i = 0; i < students.size(); i++) {
+            if (students.get(i) != savedStudents.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Integer> findStudentShardIndexes(Path directoryPath) throws IOException {
+        if (!Files.isDirectory(directoryPath)) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> shardIndexes = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+            for (Path file : files) {
+                Matcher matcher = STUDENT_SHARD_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    shardIndexes.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        return shardIndexes;
+    }
+
+    /**
+     * The students read from one shard file, with their ranks.
+     */
+    private static class StudentShard {
+        private final int index;
+        private final List<Long> ranks;
+        private final List<Student> students;
+
+        StudentShard(int index, List<Long> ranks, List<Student> students) {
+            this.index = index;
+            this.ranks = ranks;
+            this.students = students;
+        }
+    }
+
+    /**
+     * A student with its rank.
+     */
+    private static class RankedStudent {
+        private final long rank;
+        private final Student student;
+
+        RankedStudent(long rank, Student student) {
+            this.rank = rank;
+            this.student = student;
+        }
+    }
+}
@@ -29,4 +29,10 @@ public interface Storage extends EduLogStorage, UserPrefsStorage {
     @Override
     void saveEduLog(ReadOnlyEduLog eduLog) throws IOException;
 
+    @Override
+    void flushEduLog() throws IOException;
+
+    @Override
+    void checkEduLogSaved() throws IOException;
+
 }
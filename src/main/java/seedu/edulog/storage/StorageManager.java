@@ -75,4 +75,14 @@ public class StorageManager implements Storage {
         eduLogStorage.saveEduLog(eduLog, filePath);
     }
 
+    @Override
+    public void flushEduLog() throws IOException {
+        eduLogStorage.flushEduLog();
+    }
+
+    @Override
+    public void checkEduLogSaved() throws IOException {
+        eduLogStorage.checkEduLogSaved();
+    }
+
 }
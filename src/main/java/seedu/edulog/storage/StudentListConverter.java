@@ -0,0 +1,114 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.Student;
+
+/**
+ * Converts lists of {@code JsonAdaptedStudent} into the model's {@code Student} objects, checking them for duplicates.
+ * <br><br>
+ * Students are converted in parallel on the common fork-join pool, as validating their fields dominates the time taken
+ * to load a large data file. A list can be converted in several batches, such as while streaming it from a file, with
+ * duplicates checked across all of them. Every invalid or duplicate student is reported together, by its row in the
+ * whole list, rather than only the first.
+ */
+class StudentListConverter {
+
+    public static final String MESSAGE_INVALID_STUDENTS = "Students list contains %d invalid student(s):";
+    public static final String MESSAGE_INVALID_ROW = "Student %d: %s";
+    public static final String MESSAGE_DUPLICATE_ROW = "Student %d: duplicate of student %d.";
+    public static final String MESSAGE_MORE_INVALID_ROWS = "... and %d more.";
+
+    /** The most invalid rows described in the message of the exception thrown for them. */
+    static final int MAX_REPORTED_ROWS = 20;
+
+    /** Batches smaller than this are converted on the calling thread, as forking would cost more than it saves. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final List<Student> students = new ArrayList<>();
+    /** The first row of each name, as rows in the same batch may be converted in any order. */
+    private final Map<Name, Integer> firstRows = new ConcurrentHashMap<>();
+    /** The description of each invalid or duplicate row. */
+    private final SortedMap<Integer, String> invalidRows = new TreeMap<>();
+    private int rowCount;
+
+    /**
+     * Converts all of {@code adaptedStudents} into the model's {@code Student} objects, in order.
+     *
+     * @throws IllegalValueException if any student violated data constraints or was a duplicate.
+     */
+    static List<Student> convert(List<JsonAdaptedStudent> adaptedStudents) throws IllegalValueException {
+        StudentListConverter converter = new StudentListConverter();
+        converter.add(adaptedStudents);
+        return converter.getStudents();
+    }
+
+    /**
+     * Converts {@code adaptedStudents}, the next rows of the list, into the model's {@code Student} objects.
+     * Invalid and duplicate rows are recorded, to be reported by {@link #getStudents()}.
+     */
+    void add(List<JsonAdaptedStudent> adaptedStudents) {
+        requireNonNull(adaptedStudents);
+        int firstRow = rowCount;
+        Student[] converted = new Student[adaptedStudents.size()];
+        String[] errors = new String[adaptedStudents.size()];
+
+        IntStream rows = IntStream.range(0, adaptedStudents.size());
+        if (adaptedStudents.size() >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(i -> {
+            try {
+                Student student = adaptedStudents.get(i).toModelType();
+                firstRows.merge(student.getName(), firstRow + i, Math::min);
+                converted[i] = student;
+            } catch (IllegalValueException ive) {
+                errors[i] = ive.getMessage();
+            }
+        });
+
+        for (int i = 0; i < converted.length; i++) {
+            int row = firstRow + i;
+            if (errors[i] != null) {
+                invalidRows.put(row, String.format(MESSAGE_INVALID_ROW, row + 1, errors[i]));
+                continue;
+            }
+            int duplicatedRow = firstRows.get(converted[i].getName());
+            if (duplicatedRow != row) {
+                invalidRows.put(row, String.format(MESSAGE_DUPLICATE_ROW, row + 1, duplicatedRow + 1));
+                continue;
+            }
+            students.add(converted[i]);
+        }
+        rowCount += converted.length;
+    }
+
+    /**
+     * Returns the students converted so far, in order.
+     *
+     * @throws IllegalValueException if any student violated data constraints or was a duplicate.
+     */
+    List<Student> getStudents() throws IllegalValueException {
+        if (invalidRows.isEmpty()) {
+            return students;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(MESSAGE_INVALID_STUDENTS, invalidRows.size()));
+        invalidRows.values().stream().limit(MAX_REPORTED_ROWS).forEach(lines::add);
+        if (invalidRows.size() > MAX_REPORTED_ROWS) {
+            lines.add(String.format(MESSAGE_MORE_INVALID_ROWS, invalidRows.size() - MAX_REPORTED_ROWS));
+        }
+        throw new IllegalValueException(String.join("\n", lines));
+    }
+}
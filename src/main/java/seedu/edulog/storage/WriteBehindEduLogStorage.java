@@ -0,0 +1,287 @@
+package seedu.edulog.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.edulog.commons.core.LogsCenter;
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.commons.util.StringUtil;
+import seedu.edulog.model.ReadOnlyEduLog;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.student.Student;
+
+/**
+ * A storage that saves EduLog data to another {@code EduLogStorage} on a background thread, so that saving does not
+ * hold up the caller.
+ * <br><br>
+ * Saving takes a snapshot of the EduLog, which only copies the references to its students and lessons, and hands it
+ * to the background thread. Snapshots taken while an earlier one is still being written replace each other, so a
+ * burst of saves results in at most one more write, of the latest snapshot.
+ * <br><br>
+ * A failure to write in the background is reported by throwing it from the next call to
+ * {@link #saveEduLog(ReadOnlyEduLog, Path)}, {@link #flushEduLog()} or {@link #checkEduLogSaved()}. The next snapshot
+ * holds every change the failed one did, so nothing is lost as long as a later write succeeds. Until there is a next
+ * snapshot, the failed one is written again once its failure has been reported, and by {@link #flushEduLog()}.
+ */
+public class WriteBehindEduLogStorage implements EduLogStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindEduLogStorage.class);
+
+    private final EduLogStorage eduLogStorage;
+    private final Executor executor;
+
+    private final Object lock = new Object();
+    /** The latest snapshot not yet handed to {@code eduLogStorage}, or null if there is none. */
+    private ReadOnlyEduLog pendingSnapshot;
+    private boolean isWriting;
+    /** The failure of the last background write, or null if it has been reported or there was none. */
+    private IOException writeFailure;
+    /** The latest snapshot, if its write failed and it has not been written again since, or null otherwise. */
+    private ReadOnlyEduLog failedSnapshot;
+
+    /**
+     * Creates a storage that saves to {@code eduLogStorage} on a background thread.
+     */
+    public WriteBehindEduLogStorage(EduLogStorage eduLogStorage) {
+        this(eduLogStorage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EduLog saver");
+            // pending saves are flushed on stopping, so they need not keep the app running
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a storage that saves to {@code eduLogStorage} using {@code executor}, which must not run tasks
+     * concurrently.
+     */
+    WriteBehindEduLogStorage(EduLogStorage eduLogStorage, Executor executor) {
+        requireNonNull(eduLogStorage);
+        requireNonNull(executor);
+        this.eduLogStorage = eduLogStorage;
+        this.executor = executor;
+    }
+
+    @Override
+    public Path getEduLogFilePath() {
+        return eduLogStorage.getEduLogFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog() throws DataLoadingException {
+        return readEduLog(getEduLogFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyEduLog> readEduLog(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            awaitWrites();
+        } catch (InterruptedIOException e) {
+            throw new DataLoadingException(e);
+        }
+        return eduLogStorage.readEduLog(filePath);
+    }
+
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog) throws IOException {
+        saveEduLog(eduLog, getEduLogFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveEduLog(ReadOnlyEduLog)}.
+     * Only saves in the background if {@code filePath} is the data file of this storage; otherwise waits for pending
+     * saves to finish and saves to {@code filePath} directly.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if this save, or an earlier one made in the background, failed.
+     */
+    @Override
+    public void saveEduLog(ReadOnlyEduLog eduLog, Path filePath) throws IOException {
+        requireNonNull(eduLog);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getEduLogFilePath())) {
+            flushEduLog();
+            eduLogStorage.saveEduLog(eduLog, filePath);
+            return;
+        }
+
+        ReadOnlyEduLog snapshot = new EduLogSnapshot(eduLog);
+        IOException earlierFailure;
+        synchronized (lock) {
+            earlierFailure = writeFailure;
+            writeFailure = null;
+            failedSnapshot = null;
+            scheduleWrite(snapshot);
+        }
+
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
+    }
+
+    /**
+     * Waits for the saves made so far to be written. If the latest save failed in the background, it is written
+     * again on the calling thread.
+     *
+     * @throws IOException if the latest save failed again, or an earlier save made in the background failed and has
+     *     not been reported yet.
+     */
+    @Override
+    public void flushEduLog() throws IOException {
+        awaitWrites();
+        IOException failure;
+        ReadOnlyEduLog snapshot;
+        synchronized (lock) {
+            failure = writeFailure;
+            writeFailure = null;
+            snapshot = failedSnapshot;
+            failedSnapshot = null;
+        }
+
+        if (snapshot != null) {
+            logger.info("Saving data that failed to save in the background again");
+            try {
+                eduLogStorage.saveEduLog(snapshot, getEduLogFilePath());
+            } catch (IOException e) {
+                synchronized (lock) {
+                    if (failedSnapshot == null && pendingSnapshot == null && !isWriting) {
+                        failedSnapshot = snapshot;
+                    }
+                }
+                throw e;
+            }
+        } else if (failure != null) {
+            throw failure;
+        }
+        eduLogStorage.flushEduLog();
+    }
+
+    /**
+     * Throws the failure of a save made in the background, if it has not been reported yet. The failed save is then
+     * written again in the background, unless a later save has replaced it.
+     *
+     * @throws IOException if a save made in the background failed, and has not been reported yet.
+     */
+    @Override
+    public void checkEduLogSaved() throws IOException {
+        IOException failure;
+        synchronized (lock) {
+            failure = writeFailure;
+            writeFailure = null;
+            if (failure != null && failedSnapshot != null) {
+                scheduleWrite(failedSnapshot);
+                failedSnapshot = null;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Makes {@code snapshot} the next one to be written, starting a background write if none is under way.
+     * Must be called while holding {@code lock}.
+     */
+    private void scheduleWrite(ReadOnlyEduLog snapshot) {
+        boolean isWriteScheduled = isWriting || pendingSnapshot != null;
+        pendingSnapshot = snapshot;
+        if (!isWriteScheduled) {
+            isWriting = true;
+            executor.execute(this::writePendingSnapshots);
+        }
+    }
+
+    private void awaitWrites() throws InterruptedIOException {
+        synchronized (lock) {
+            while (isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for EduLog data to be saved");
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes snapshots until there are no more pending, then wakes up any callers waiting for the writes.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            ReadOnlyEduLog snapshot;
+            synchronized (lock) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                if (snapshot == null) {
+                    isWriting = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            IOException failure = null;
+            try {
+                eduLogStorage.saveEduLog(snapshot, getEduLogFilePath());
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException(e.getMessage(), e);
+            }
+
+            if (failure != null) {
+                logger.warning("Failed to save data in the background: " + StringUtil.getDetails(failure));
+                synchronized (lock) {
+                    writeFailure = failure;
+                    if (pendingSnapshot == null) {
+                        failedSnapshot = snapshot;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The students and lessons of an EduLog at the point the snapshot was taken.
+     */
+    private static class EduLogSnapshot implements ReadOnlyEduLog {
+        private final ObservableList<Student> students;
+        private final ObservableList<Lesson> lessons;
+        private final long modificationCount;
+
+        EduLogSnapshot(ReadOnlyEduLog eduLog) {
+            students = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(eduLog.getStudentList()));
+            lessons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(eduLog.getLessonList()));
+            modificationCount = eduLog.getModificationCount();
+        }
+
+        @Override
+        public ObservableList<Student> getStudentList() {
+            return students;
+        }
+
+        @Override
+        public ObservableList<Lesson> getLessonList() {
+            return lessons;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return modificationCount;
+        }
+    }
+}
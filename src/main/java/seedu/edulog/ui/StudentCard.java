@@ -18,6 +18,12 @@ public class StudentCard extends UiPart<Region> {
 
     private static final String FXML = "StudentListCard.fxml";
 
+    // shared by every card, instead of being loaded again for each one
+    private static final Image PAID_ICON = new Image(StudentCard.class.getResource("/images/paid.png")
+            .toExternalForm());
+    private static final Image UNPAID_ICON = new Image(StudentCard.class.getResource("/images/unpaid.png")
+            .toExternalForm());
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -26,7 +32,7 @@ public class StudentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on EduLog level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -47,29 +53,39 @@ public class StudentCard extends UiPart<Region> {
     @FXML
     private Label fee;
 
-    private final Image paidIcon = new Image(getClass().getResource("/images/paid.png").toExternalForm());
-    private final Image unpaidIcon = new Image(getClass().getResource("/images/unpaid.png").toExternalForm());
-
     /**
      * Creates a {@code StudentCode} with the given {@code Student} and index to display.
      */
     public StudentCard(Student student, int displayedIndex) {
         super(FXML);
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Shows {@code student} at {@code displayedIndex} in this card instead of the student shown before, so that the
+     * card can be reused without loading it again.
+     */
+    public void setStudent(Student student, int displayedIndex) {
         this.student = student;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().fullName);
         phone.setText(student.getPhone().value);
         address.setText(student.getAddress().value);
         email.setText(student.getEmail().value);
+        tags.getChildren().clear();
         student.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        assert(paidIcon != null);
-        assert(unpaidIcon != null);
-        paidStatusIcon.setImage(student.getHasPaid() ? paidIcon : unpaidIcon);
+        assert(PAID_ICON != null);
+        assert(UNPAID_ICON != null);
+        paidStatusIcon.setImage(student.getHasPaid() ? PAID_ICON : UNPAID_ICON);
         fee.setText("$" + String.valueOf(student.getFee().value));
     }
 
+    public Student getStudent() {
+        return student;
+    }
+
     /**
      * Creates a copy of this {@code StudentCard} instance.
      *
@@ -31,8 +31,12 @@ public class StudentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentCard}.
+     * The list view only creates cells for the rows in view and reuses them as it scrolls, so each cell creates its
+     * card once and shows whichever student it is given in the same card.
      */
     class StudentListViewCell extends ListCell<Student> {
+        private StudentCard studentCard;
+
         @Override
         protected void updateItem(Student student, boolean empty) {
             super.updateItem(student, empty);
@@ -41,7 +45,12 @@ public class StudentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new StudentCard(student, getIndex() + 1).getRoot());
+                if (studentCard == null) {
+                    studentCard = new StudentCard(student, getIndex() + 1);
+                } else {
+                    studentCard.setStudent(student, getIndex() + 1);
+                }
+                setGraphic(studentCard.getRoot());
             }
         }
     }
@@ -0,0 +1,26 @@
+package seedu.edulog.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edulog.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.commons.core.StorageSettings.DataFileFormat;
+
+public class StorageSettingsTest {
+    @Test
+    public void constructor_countsOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StorageSettings(true, 0, true, 2,
+                DataFileFormat.JSON, true, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StorageSettings(true, 1000, true, -1,
+                DataFileFormat.JSON, true, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StorageSettings(true, 1000, true, 2,
+                DataFileFormat.JSON, true, -1));
+    }
+
+    @Test
+    public void withInvalidValuesReset_validValues_unchanged() {
+        StorageSettings storageSettings = new StorageSettings(true, 5, false, 0, DataFileFormat.BINARY, false, 8);
+        assertEquals(storageSettings, storageSettings.withInvalidValuesReset());
+    }
+}
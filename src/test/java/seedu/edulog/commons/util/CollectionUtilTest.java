@@ -1,14 +1,18 @@
 package seedu.edulog.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.commons.util.CollectionUtil.findDuplicatePositions;
 import static seedu.edulog.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.edulog.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +77,47 @@ public class CollectionUtilTest {
         assertNullPointerExceptionNotThrown(Arrays.asList(containingNull, new Object()));
     }
 
+    @Test
+    public void findDuplicatePositions_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> findDuplicatePositions(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> findDuplicatePositions(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void findDuplicatePositions_uniqueIdentities_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), findDuplicatePositions(Collections.emptyList(), Function.identity()));
+        assertEquals(Collections.emptyList(), findDuplicatePositions(Arrays.asList("a", "b", "c"),
+                Function.identity()));
+    }
+
+    @Test
+    public void findDuplicatePositions_repeatedIdentities_returnsPositionsOfLaterOccurrences() {
+        List<String> items = Arrays.asList("apple", "Avocado", "banana", "apple", "blueberry", "apple");
+
+        assertEquals(Arrays.asList(3, 5), findDuplicatePositions(items, Function.identity()));
+
+        // identities are extracted before comparison
+        assertEquals(Arrays.asList(1, 3, 4, 5), findDuplicatePositions(items, item -> item.toLowerCase().charAt(0)));
+    }
+
+    @Test
+    public void findDuplicatePositions_largeList_extractsEachIdentityOnce() {
+        int size = 100_000;
+        List<Integer> items = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            items.add(i);
+        }
+        items.add(size / 2);
+
+        int[] extractionCount = new int[1];
+        List<Integer> duplicatePositions = findDuplicatePositions(items, item -> {
+            extractionCount[0]++;
+            return item;
+        });
+        assertEquals(Collections.singletonList(size), duplicatePositions);
+        assertEquals(items.size(), extractionCount[0]);
+    }
+
     @Test
     public void isAnyNonNull() {
         assertFalse(CollectionUtil.isAnyNonNull());
@@ -1,13 +1,23 @@
 package seedu.edulog.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edulog.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,47 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void isCompressedPath() {
+        assertTrue(FileUtil.isCompressedPath(Path.of("data", "edulog.json.gz")));
+        assertFalse(FileUtil.isCompressedPath(Path.of("data", "edulog.json")));
+        assertFalse(FileUtil.isCompressedPath(Path.of("data.gz", "edulog.json")));
+    }
+
+    @Test
+    public void replaceExtension() {
+        assertEquals(Path.of("data", "edulog.idx"), FileUtil.replaceExtension(Path.of("data", "edulog.json"), ".idx"));
+        assertEquals(Path.of("edulog.json.idx"), FileUtil.replaceExtension(Path.of("edulog.json.gz"), ".idx"));
+        assertEquals(Path.of("edulog.idx"), FileUtil.replaceExtension(Path.of("edulog"), ".idx"));
+        assertEquals(Path.of(".edulog.idx"), FileUtil.replaceExtension(Path.of(".edulog"), ".idx"));
+    }
+
+    @Test
+    public void openForReading_wholeFileRead() throws Exception {
+        Path file = testFolder.resolve("bytes");
+        byte[] contents = new byte[] {0, 1, (byte) 0x80, (byte) 0xFF, 42};
+        Files.write(file, contents);
+
+        try (InputStream input = FileUtil.openForReading(file)) {
+            assertEquals(0, input.read());
+            assertEquals(1, input.skip(1));
+            assertEquals(0x80, input.read());
+            assertEquals(2, input.available());
+            byte[] rest = new byte[4];
+            assertEquals(2, input.read(rest, 0, 4));
+            assertArrayEquals(new byte[] {(byte) 0xFF, 42, 0, 0}, rest);
+            assertEquals(-1, input.read());
+            assertEquals(-1, input.read(rest, 0, 4));
+        }
+    }
+
+    @Test
+    public void openForReading_emptyFile_endOfStream() throws Exception {
+        Path file = testFolder.resolve("empty");
+        Files.createFile(file);
+        try (InputStream input = FileUtil.openForReading(file)) {
+            assertEquals(-1, input.read());
+        }
+    }
+
 }
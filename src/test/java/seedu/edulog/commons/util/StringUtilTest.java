@@ -1,5 +1,6 @@
 package seedu.edulog.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edulog.testutil.Assert.assertThrows;
@@ -129,6 +130,25 @@ public class StringUtilTest {
      * Equivalence Partitions: null, valid throwable object
      */
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_consistentWithEqualsIgnoreCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals(StringUtil.foldCase("Alex Yeoh"), StringUtil.foldCase("aLEX yEOH"));
+        assertEquals(StringUtil.foldCase("Straße 12"), StringUtil.foldCase("STRAßE 12"));
+        assertFalse(StringUtil.foldCase("Alex").equals(StringUtil.foldCase("Alexa")));
+
+        // characters whose upper and lower case forms do not map back to each other
+        assertTrue("\u0131".equalsIgnoreCase("I"));
+        assertEquals(StringUtil.foldCase("\u0131"), StringUtil.foldCase("I"));
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
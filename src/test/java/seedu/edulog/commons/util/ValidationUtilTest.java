@@ -0,0 +1,62 @@
+package seedu.edulog.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.model.student.Fee;
+import seedu.edulog.model.student.Phone;
+import seedu.edulog.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Strings on the edges of the formats checked by hand, including non-ASCII digits and letters. */
+    private static final List<String> SAMPLES = List.of("", " ", "0", "1", "9", "01", "10", "123", "999999",
+            "1000000", "0123456", "12 3", " 123", "123 ", "12\n", "12a", "abc", "ABC", "aZ9", "a_b", "a-b", "é",
+            "١٢٣", "１２３", "12 ", "a\u0000", "91234567", "1".repeat(100));
+
+    @Test
+    public void matches_wholeStringOnly() {
+        Pattern pattern = Pattern.compile("\\d+");
+        assertTrue(ValidationUtil.matches(pattern, "123"));
+        assertFalse(ValidationUtil.matches(pattern, "123a"));
+        assertFalse(ValidationUtil.matches(pattern, ""));
+    }
+
+    @Test
+    public void matches_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(Pattern.compile("a"), null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(null, "a"));
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\d+"), ValidationUtil.isDigits(sample, 1, Integer.MAX_VALUE), sample);
+            assertEquals(sample.matches("\\d{2,3}"), ValidationUtil.isDigits(sample, 2, 3), sample);
+        }
+    }
+
+    @Test
+    public void isAlphanumeric_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(sample), sample);
+        }
+    }
+
+    @Test
+    public void valueClasses_sameAsTheirRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(sample), sample);
+            assertEquals(sample.matches(Fee.VALIDATION_REGEX) && Integer.parseInt(sample) < Fee.LIMIT,
+                    Fee.isValidFee(sample), sample);
+            assertEquals(sample.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(sample), sample);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.edulog.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edulog.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.edulog.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.edulog.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,6 +15,7 @@ import static seedu.edulog.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -71,6 +74,38 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_unchangedEduLog_saveSkipped() throws Exception {
+        Path eduLogPath = temporaryFolder.resolve("eduLog.json");
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(eduLogPath));
+        assertEquals(1, logic.getSkippedSaveCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + FEE);
+        assertTrue(Files.exists(eduLogPath));
+        assertEquals(1, logic.getSkippedSaveCount());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_unchangedEduLogAfterBackgroundSaveFailed_throwsCommandException() {
+        JsonEduLogStorage eduLogStorage = new JsonEduLogStorage(temporaryFolder.resolve("eduLog.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(eduLogStorage, userPrefsStorage) {
+            @Override
+            public void checkEduLogSaved() throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        });
+
+        assertCommandFailure(ListCommand.COMMAND_WORD, CommandException.class,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), model);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
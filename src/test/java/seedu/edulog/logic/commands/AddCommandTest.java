@@ -10,6 +10,9 @@ import static seedu.edulog.testutil.TypicalStudents.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,10 +25,15 @@ import seedu.edulog.model.EduLog;
 import seedu.edulog.model.Model;
 import seedu.edulog.model.ReadOnlyEduLog;
 import seedu.edulog.model.ReadOnlyUserPrefs;
+import seedu.edulog.model.calendar.Day;
 import seedu.edulog.model.calendar.Description;
 import seedu.edulog.model.calendar.EdulogCalendar;
 import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonTime;
+import seedu.edulog.model.student.Name;
+import seedu.edulog.model.student.PaymentSummary;
 import seedu.edulog.model.student.Student;
+import seedu.edulog.model.tag.Tag;
 import seedu.edulog.testutil.StudentBuilder;
 
 public class AddCommandTest {
@@ -176,6 +184,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public PaymentSummary getPaymentSummary() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public Set<Name> findStudentNamesContainingAnyWord(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> findStudentNamesApproximately(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findStudentNamesWithTags(List<Set<Tag>> tagGroups) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudent(Student target, Student editedStudent) {
             throw new AssertionError("This method should not be called.");
@@ -201,6 +229,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Lesson> findClashingLessons(Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Lesson> findLessonsAt(Day day, LessonTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Lesson> findLessonsWithin(Day day, LessonTime startTime, LessonTime endTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Lesson> getLessonList() {
             throw new AssertionError("This method should not be called.");
@@ -219,6 +262,21 @@ public class AddCommandTest {
         public void updateFilteredStudentList(Predicate<Student> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showStudentsWithPaymentStatus(boolean hasPaid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredLessonList(Predicate<Lesson> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
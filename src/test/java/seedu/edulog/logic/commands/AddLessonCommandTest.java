@@ -76,6 +76,18 @@ public class AddLessonCommandTest {
         assertTrue(model.hasLesson(validLesson3));
     }
 
+    @Test
+    public void execute_lessonOverlapsExistingLessons_successWithClashNote() throws CommandException {
+        model.addLesson(validLesson1);
+        model.addLesson(validLesson2);
+
+        // validLesson3 runs from Tuesday 2300 into Wednesday, overlapping validLesson2 only
+        CommandResult result = new AddLessonCommand(validLesson3).execute(model);
+        assertEquals(String.format(AddLessonCommand.MESSAGE_SUCCESS, validLesson3) + "\n"
+                + String.format(AddLessonCommand.MESSAGE_CLASHING_LESSONS, "Science"), result.getFeedbackToUser());
+        assertTrue(model.hasLesson(validLesson3));
+    }
+
     @Test
     public void execute_duplicateValidLesson_throwsCommandException() throws CommandException {
         model.addLesson(validLesson1);
@@ -7,7 +7,10 @@ import static seedu.edulog.logic.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.edulog.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +20,7 @@ import seedu.edulog.model.Model;
 import seedu.edulog.model.ModelManager;
 import seedu.edulog.model.UserPrefs;
 import seedu.edulog.model.student.StudentHasPaidPredicate;
+import seedu.edulog.model.tag.Tag;
 import seedu.edulog.testutil.TypicalStudents;
 
 /**
@@ -132,6 +136,24 @@ public class FilterCommandTest {
     }
 
 
+    @Test
+    public void execute_tagGroups_studentsWithEveryGroupFound() {
+        // ALICE, BENSON and DANIEL are friends, and only BENSON also owes money
+        FilterCommand command = new FilterCommand(List.of(Set.of(new Tag("friends"))));
+        expectedModel.updateFilteredStudentList(student -> student.getTags().contains(new Tag("friends")));
+        assertCommandSuccess(command, model, String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3), expectedModel);
+        assertEquals(Arrays.asList(TypicalStudents.ALICE, TypicalStudents.BENSON, TypicalStudents.DANIEL),
+                model.getFilteredStudentList());
+
+        command = new FilterCommand(List.of(Set.of(new Tag("friends")), Set.of(new Tag("owesMoney"), new Tag("x"))));
+        command.execute(model);
+        assertEquals(List.of(TypicalStudents.BENSON), model.getFilteredStudentList());
+
+        command = new FilterCommand(List.of(Set.of(new Tag("friends")), Set.of(new Tag("unknown"))));
+        command.execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
     @Test
     public void toStringMethodTrue() {
         StudentHasPaidPredicate predicate = new StudentHasPaidPredicate(true);
@@ -12,6 +12,8 @@ import static seedu.edulog.testutil.TypicalStudents.FIONA;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +54,9 @@ public class FindCommandTest {
 
         // different student -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -74,11 +79,36 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_keywordsInDifferentCase_multipleStudentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = preparePredicate("kURZ elle KUNZ");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_approximateKeywords_closestStudentsFirst() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(preparePredicate("Kunz Mey"), true);
+        // "Kunz" is an exact match and a typo of "Kurz", "Mey" is a prefix of "Meyer"
+        expectedModel.updateFilteredStudentList(student -> List.of(FIONA, ELLE, CARL).contains(student),
+                Comparator.comparing(student -> List.of(FIONA, ELLE, CARL).indexOf(student)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FIONA, ELLE, CARL), model.getFilteredStudentList());
+
+        // a later exact search restores the original order
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", isApproximate=false}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -0,0 +1,107 @@
+package seedu.edulog.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.logic.Messages.MESSAGE_LESSONS_LISTED_OVERVIEW;
+import static seedu.edulog.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
+import static seedu.edulog.testutil.TypicalLessons.SEC_2_MATH;
+import static seedu.edulog.testutil.TypicalLessons.SEC_3_MATH;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.model.Model;
+import seedu.edulog.model.ModelManager;
+import seedu.edulog.model.UserPrefs;
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonTime;
+import seedu.edulog.testutil.LessonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindLessonCommand}.
+ */
+public class FindLessonCommandTest {
+    private Model model = new ModelManager(getTypicalEduLog(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalEduLog(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindLessonCommand findAtCommand = new FindLessonCommand(new Day("Tuesday"), new LessonTime("0100"));
+        FindLessonCommand findWithinCommand = new FindLessonCommand(new Day("Tuesday"), new LessonTime("0100"),
+                new LessonTime("0200"));
+
+        // same object -> returns true
+        assertTrue(findAtCommand.equals(findAtCommand));
+
+        // same values -> returns true
+        assertTrue(findAtCommand.equals(new FindLessonCommand(new Day("tue"), new LessonTime("0100"))));
+        assertTrue(findWithinCommand.equals(new FindLessonCommand(new Day("Tuesday"), new LessonTime("0100"),
+                new LessonTime("0200"))));
+
+        // different types -> returns false
+        assertFalse(findAtCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findAtCommand.equals(null));
+
+        // different day -> returns false
+        assertFalse(findAtCommand.equals(new FindLessonCommand(new Day("Monday"), new LessonTime("0100"))));
+
+        // with and without end time -> returns false
+        assertFalse(findAtCommand.equals(findWithinCommand));
+    }
+
+    @Test
+    public void execute_timeWithoutLessons_noLessonFound() {
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 0);
+        FindLessonCommand command = new FindLessonCommand(new Day("Monday"), new LessonTime("1200"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getLessonList());
+    }
+
+    @Test
+    public void execute_timeDuringLessonPastMidnight_lessonFound() {
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 1);
+        FindLessonCommand command = new FindLessonCommand(new Day("Thursday"), new LessonTime("0000"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(SEC_2_MATH), model.getLessonList());
+    }
+
+    @Test
+    public void execute_periodOverlappingLessons_multipleLessonsFound() {
+        Lesson overlappingLesson = new LessonBuilder().withDescription("Sec 1 Math")
+                .withDayOfWeek("Tuesday").withStartTime("0300").withEndTime("0400").build();
+        model.addLesson(overlappingLesson);
+        expectedModel.addLesson(overlappingLesson);
+
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 2);
+        FindLessonCommand command = new FindLessonCommand(new Day("Tuesday"), new LessonTime("0200"),
+                new LessonTime("0330"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(SEC_3_MATH, overlappingLesson), model.getLessonList());
+    }
+
+    @Test
+    public void execute_periodPastMidnight_lessonOnNextDayFound() {
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 1);
+        FindLessonCommand command = new FindLessonCommand(new Day("Monday"), new LessonTime("2300"),
+                new LessonTime("0100"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(SEC_3_MATH), model.getLessonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Day day = new Day("Tuesday");
+        LessonTime time = new LessonTime("0100");
+        FindLessonCommand findLessonCommand = new FindLessonCommand(day, time);
+        String expected = FindLessonCommand.class.getCanonicalName() + "{day=" + day + ", startTime=" + time
+                + ", endTime=null}";
+        assertEquals(expected, findLessonCommand.toString());
+    }
+}
@@ -136,6 +136,17 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestRecognized() {
+        Prefix d = new Prefix("d/");
+        Prefix day = new Prefix("d/ay/");
+        String argsString = "preamble d/ay/ Monday d/ maths d/ayx";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, d, day);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, day, "Monday");
+        assertArgumentPresent(argMultimap, d, "maths", "ayx");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
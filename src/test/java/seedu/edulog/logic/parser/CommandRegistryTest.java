@@ -0,0 +1,70 @@
+package seedu.edulog.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.edulog.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.logic.commands.AddCommand;
+import seedu.edulog.logic.commands.Command;
+import seedu.edulog.logic.commands.ExitCommand;
+import seedu.edulog.logic.commands.HelpCommand;
+
+public class CommandRegistryTest {
+
+    private static final Parser<Command> EXIT_PARSER = arguments -> new ExitCommand();
+
+    @Test
+    public void getParser_builtInCommand_sameParserEachTime() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        Parser<? extends Command> addParser = registry.getParser(AddCommand.COMMAND_WORD).get();
+        assertSame(addParser, registry.getParser(AddCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void getParser_unregisteredWord_empty() {
+        assertFalse(new CommandRegistry().getParser(AddCommand.COMMAND_WORD).isPresent());
+    }
+
+    @Test
+    public void register_aliases_sameParser() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("bye", EXIT_PARSER, "quit", "q");
+        assertSame(EXIT_PARSER, registry.getParser("bye").get());
+        assertSame(EXIT_PARSER, registry.getParser("quit").get());
+        assertSame(EXIT_PARSER, registry.getParser("q").get());
+    }
+
+    @Test
+    public void register_registeredWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        assertThrows(IllegalArgumentException.class,
+                String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD, HelpCommand.COMMAND_WORD), () ->
+                registry.register("bye", EXIT_PARSER, HelpCommand.COMMAND_WORD));
+
+        // nothing is registered if any word is rejected
+        assertFalse(registry.getParser("bye").isPresent());
+    }
+
+    @Test
+    public void register_repeatedAlias_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandRegistry().register("bye", EXIT_PARSER, "bye"));
+    }
+
+    @Test
+    public void register_invalidWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.register("", EXIT_PARSER));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("good bye", EXIT_PARSER));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("bye", EXIT_PARSER, "q\t"));
+    }
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(NullPointerException.class, () -> registry.register(null, EXIT_PARSER));
+        assertThrows(NullPointerException.class, () -> registry.register("bye", null));
+        assertThrows(NullPointerException.class, () -> registry.register("bye", EXIT_PARSER, (String) null));
+    }
+}
@@ -21,9 +21,12 @@ import seedu.edulog.logic.commands.EditCommand;
 import seedu.edulog.logic.commands.EditCommand.EditStudentDescriptor;
 import seedu.edulog.logic.commands.ExitCommand;
 import seedu.edulog.logic.commands.FindCommand;
+import seedu.edulog.logic.commands.FindLessonCommand;
 import seedu.edulog.logic.commands.HelpCommand;
 import seedu.edulog.logic.commands.ListCommand;
 import seedu.edulog.logic.parser.exceptions.ParseException;
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.LessonTime;
 import seedu.edulog.model.student.NameContainsKeywordsPredicate;
 import seedu.edulog.model.student.Student;
 import seedu.edulog.testutil.EditStudentDescriptorBuilder;
@@ -41,6 +44,14 @@ public class EduLogParserTest {
         assertEquals(new AddCommand(student), command);
     }
 
+    @Test
+    public void parseCommand_findLesson() throws Exception {
+        FindLessonCommand command = (FindLessonCommand) parser.parseCommand(
+                FindLessonCommand.COMMAND_WORD + " day/Tue from/1930 to/2030");
+        assertEquals(new FindLessonCommand(new Day("Tuesday"), new LessonTime("1930"), new LessonTime("2030")),
+                command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -99,4 +110,20 @@ public class EduLogParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_registeredAlias() throws Exception {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        registry.register("bye", arguments -> new ExitCommand(), "q");
+        EduLogParser customParser = new EduLogParser(registry);
+        assertTrue(customParser.parseCommand("bye") instanceof ExitCommand);
+        assertTrue(customParser.parseCommand("  q\t3") instanceof ExitCommand);
+        assertTrue(customParser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_argumentsAfterTab() throws Exception {
+        assertEquals(new DeleteIndexCommand(INDEX_FIRST_STUDENT),
+                parser.parseCommand(DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_STUDENT.getOneBased()));
+    }
 }
@@ -4,10 +4,14 @@ import static seedu.edulog.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.edulog.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.edulog.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.edulog.logic.commands.FilterCommand;
 import seedu.edulog.model.student.StudentHasPaidPredicate;
+import seedu.edulog.model.tag.Tag;
 
 public class FilterCommandParserTest {
 
@@ -55,4 +59,20 @@ public class FilterCommandParserTest {
         assertParseSuccess(parser, "unpaid", expectedFilterCommand);
     }
 
+    @Test
+    public void parse_tagGroups_returnsTagFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(List.of(
+                Set.of(new Tag("math"), new Tag("physics")), Set.of(new Tag("sec3"))));
+        assertParseSuccess(parser, " t/math  physics t/sec3", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_invalidTagGroups_throwsParseException() {
+        // empty group
+        assertParseFailure(parser, " t/math t/", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FilterCommand.MESSAGE_USAGE));
+
+        // invalid tag
+        assertParseFailure(parser, " t/math# physics", Tag.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -31,4 +31,14 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_approximateFlag_returnsApproximateFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "Bo")), true);
+        assertParseSuccess(parser, " -f Alcie  Bo", expectedFindCommand);
+
+        // flag without keywords
+        assertParseFailure(parser, " -f  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
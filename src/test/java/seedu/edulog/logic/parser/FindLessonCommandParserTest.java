@@ -0,0 +1,53 @@
+package seedu.edulog.logic.parser;
+
+import static seedu.edulog.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edulog.logic.parser.CliSyntax.PREFIX_START_DAY;
+import static seedu.edulog.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.edulog.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.logic.Messages;
+import seedu.edulog.logic.commands.FindLessonCommand;
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.LessonTime;
+
+public class FindLessonCommandParserTest {
+
+    private FindLessonCommandParser parser = new FindLessonCommandParser();
+
+    @Test
+    public void parse_dayAndTime_returnsFindLessonCommand() {
+        assertParseSuccess(parser, " day/Tue from/1930",
+                new FindLessonCommand(new Day("Tuesday"), new LessonTime("1930")));
+    }
+
+    @Test
+    public void parse_dayAndPeriod_returnsFindLessonCommand() {
+        assertParseSuccess(parser, " day/Sunday from/2200 to/0200",
+                new FindLessonCommand(new Day("Sunday"), new LessonTime("2200"), new LessonTime("0200")));
+    }
+
+    @Test
+    public void parse_missingDayOrTime_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/1930", expectedMessage);
+        assertParseFailure(parser, " day/Tue", expectedMessage);
+        assertParseFailure(parser, " day/Tue to/1930", expectedMessage);
+        assertParseFailure(parser, " preamble day/Tue from/1930", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " day/Tues from/1930", Day.INVALID_DAY_OF_WEEK);
+        assertParseFailure(parser, " day/Tue from/930", LessonTime.NOT_24H_FORMAT);
+        assertParseFailure(parser, " day/Tue from/1930 to/2400", LessonTime.NOT_24H_FORMAT);
+        assertParseFailure(parser, " day/Tue from/1930 to/1930", LessonTime.NO_SAME_TIME);
+    }
+
+    @Test
+    public void parse_repeatedDay_throwsParseException() {
+        assertParseFailure(parser, " day/Tue day/Wed from/1930",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_START_DAY));
+    }
+}
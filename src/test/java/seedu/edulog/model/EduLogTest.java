@@ -38,6 +38,59 @@ public class EduLogTest {
         assertEquals(Collections.emptyList(), eduLog.getStudentList());
     }
 
+    @Test
+    public void markStudent_studentInEduLog_replacesWithPaidCopy() {
+        Student unpaidAlice = new StudentBuilder(ALICE).withHasPaid(false).build();
+        eduLog.addStudent(unpaidAlice);
+        eduLog.markStudent(unpaidAlice);
+
+        // the original student is left unchanged
+        assertFalse(unpaidAlice.getHasPaid());
+        assertTrue(eduLog.getStudentList().get(0).getHasPaid());
+        assertEquals(unpaidAlice.getFee().value, eduLog.getPaid());
+        assertEquals(0, eduLog.getUnpaid());
+
+        eduLog.unmarkStudent(eduLog.getStudentList().get(0));
+        assertFalse(eduLog.getStudentList().get(0).getHasPaid());
+        assertEquals(0, eduLog.getPaid());
+        assertEquals(unpaidAlice.getFee().value, eduLog.getUnpaid());
+    }
+
+    @Test
+    public void markAllStudents_typicalEduLog_allFeesPaid() {
+        EduLog typicalEduLog = new EduLog(getTypicalEduLog());
+        int totalFees = typicalEduLog.getPaid() + typicalEduLog.getUnpaid();
+
+        typicalEduLog.markAllStudents();
+        assertEquals(totalFees, typicalEduLog.getPaid());
+        assertEquals(0, typicalEduLog.getUnpaid());
+        assertEquals(typicalEduLog.getStudentList().size(), typicalEduLog.getPaymentSummary().getPaidCount());
+
+        typicalEduLog.unmarkAllStudents();
+        assertEquals(0, typicalEduLog.getPaid());
+        assertEquals(totalFees, typicalEduLog.getUnpaid());
+        assertEquals(typicalEduLog.getStudentList().size(), typicalEduLog.getPaymentSummary().getUnpaidCount());
+    }
+
+    @Test
+    public void getModificationCount_changesAndQueries_countsOnlyChanges() {
+        EduLog eduLog = new EduLog();
+        long initialCount = eduLog.getModificationCount();
+
+        eduLog.hasStudent(ALICE);
+        eduLog.hasLesson(SEC_2_MATH);
+        assertEquals(initialCount, eduLog.getModificationCount());
+
+        eduLog.addStudent(ALICE);
+        eduLog.addLesson(SEC_2_MATH);
+        eduLog.markStudent(ALICE);
+        assertEquals(initialCount + 3, eduLog.getModificationCount());
+
+        // marking students when everyone has paid changes nothing
+        eduLog.markAllStudents();
+        assertEquals(initialCount + 3, eduLog.getModificationCount());
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> eduLog.resetData(null));
@@ -194,6 +247,11 @@ public class EduLogTest {
         public ObservableList<Lesson> getLessonList() {
             return lessons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
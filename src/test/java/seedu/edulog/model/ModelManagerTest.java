@@ -11,11 +11,14 @@ import static seedu.edulog.testutil.TypicalStudents.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.edulog.commons.core.GuiSettings;
 import seedu.edulog.model.student.NameContainsKeywordsPredicate;
+import seedu.edulog.model.student.Student;
 import seedu.edulog.testutil.EduLogBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +96,23 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void showStudentsWithPaymentStatus_markAndUnmark_listStaysUpToDate() {
+        modelManager.setEduLog(new EduLogBuilder().withStudent(ALICE).withStudent(BENSON).build());
+        modelManager.showStudentsWithPaymentStatus(true);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredStudentList());
+
+        modelManager.markStudent(BENSON);
+        assertEquals(Collections.singletonList(BENSON.getName()),
+                modelManager.getFilteredStudentList().stream().map(Student::getName).collect(Collectors.toList()));
+
+        modelManager.showStudentsWithPaymentStatus(false);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredStudentList());
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(2, modelManager.getFilteredStudentList().size());
+    }
+
     @Test
     public void equals() {
         EduLog eduLog = new EduLogBuilder().withStudent(ALICE).withStudent(BENSON).build();
@@ -12,6 +12,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPref.setGuiSettings(null));
     }
 
+    @Test
+    public void setStorageSettings_nullStorageSettings_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageSettings(null));
+    }
+
     @Test
     public void setEduLogFilePath_nullPath_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
@@ -1,5 +1,6 @@
 package seedu.edulog.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edulog.testutil.Assert.assertThrows;
@@ -85,4 +86,10 @@ public class DescriptionTest {
         // trailing spaces -> returns false
         assertFalse(description.equals(new Description(" Valid Description")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        Description description = new Description("Valid Description");
+        assertEquals(description.hashCode(), new Description("valid DESCRIPTION").hashCode());
+    }
 }
@@ -2,12 +2,14 @@ package seedu.edulog.model.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edulog.logic.commands.CommandTestUtil.VALID_DAY_MATH;
 import static seedu.edulog.logic.commands.CommandTestUtil.VALID_DESCRIPTION_MATH;
 import static seedu.edulog.logic.commands.CommandTestUtil.VALID_END_TIME_MATH;
 import static seedu.edulog.logic.commands.CommandTestUtil.VALID_START_TIME_MATH;
 import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalLessons.SEC_2_MATH;
 import static seedu.edulog.testutil.TypicalLessons.SEC_3_MATH;
 import static seedu.edulog.testutil.TypicalLessons.SEC_4_MATH;
 
@@ -17,8 +19,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.Description;
 import seedu.edulog.model.calendar.EdulogCalendar;
 import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonTime;
 import seedu.edulog.model.calendar.exceptions.DuplicateLessonException;
 import seedu.edulog.model.calendar.exceptions.LessonNotFoundException;
 import seedu.edulog.testutil.LessonBuilder;
@@ -126,6 +131,56 @@ public class EdulogCalendarTest {
         assertThrows(DuplicateLessonException.class, () -> edulogCalendar.setLesson(SEC_3_MATH, SEC_4_MATH));
     }
 
+    @Test
+    public void setLesson_editedLessonHasDifferentIdentity_updatesLookup() {
+        edulogCalendar.add(SEC_3_MATH);
+        edulogCalendar.setLesson(SEC_3_MATH, SEC_4_MATH);
+        assertNull(edulogCalendar.findLesson(SEC_3_MATH.getDescription()));
+        assertEquals(SEC_4_MATH, edulogCalendar.findLesson(SEC_4_MATH.getDescription()));
+        assertFalse(edulogCalendar.contains(SEC_3_MATH));
+    }
+
+    @Test
+    public void setLesson_editedLessonHasDifferentTime_updatesTimeLookup() {
+        edulogCalendar.add(SEC_3_MATH);
+        Lesson editedMathLesson = new LessonBuilder(SEC_3_MATH).withDayOfWeek("Friday").build();
+        edulogCalendar.setLesson(SEC_3_MATH, editedMathLesson);
+        assertEquals(Collections.emptyList(), edulogCalendar.findLessonsAt(new Day("Tuesday"), new LessonTime("0100")));
+        assertEquals(Collections.singletonList(editedMathLesson),
+                edulogCalendar.findLessonsAt(new Day("Friday"), new LessonTime("0100")));
+    }
+
+    @Test
+    public void findLessonsWithin_periodPastMidnight_returnsLessonsOnBothDays() {
+        edulogCalendar.setLessons(Arrays.asList(SEC_2_MATH, SEC_3_MATH, SEC_4_MATH));
+        assertEquals(Collections.singletonList(SEC_2_MATH), edulogCalendar.findLessonsWithin(new Day("Wednesday"),
+                new LessonTime("2330"), new LessonTime("0100")));
+        assertEquals(Collections.singletonList(SEC_3_MATH), edulogCalendar.findLessonsWithin(new Day("Monday"),
+                new LessonTime("2330"), new LessonTime("0100")));
+    }
+
+    @Test
+    public void findClashingLessons_overlappingLesson_returnsOtherLessons() {
+        edulogCalendar.setLessons(Arrays.asList(SEC_2_MATH, SEC_3_MATH, SEC_4_MATH));
+        Lesson clashingLesson = new LessonBuilder().withDescription(randomDescription).withDayOfWeek("Thursday")
+                .withStartTime("0000").withEndTime("0100").build();
+        assertEquals(Collections.singletonList(SEC_2_MATH), edulogCalendar.findClashingLessons(clashingLesson));
+        assertEquals(Collections.emptyList(), edulogCalendar.findClashingLessons(SEC_2_MATH));
+    }
+
+    @Test
+    public void findLesson_descriptionDiffersInCase_returnsLesson() {
+        edulogCalendar.add(SEC_3_MATH);
+        Description upperCaseDescription = new Description(SEC_3_MATH.getDescription().description.toUpperCase());
+        assertEquals(SEC_3_MATH, edulogCalendar.findLesson(upperCaseDescription));
+    }
+
+    @Test
+    public void findLesson_descriptionNotInCalendar_returnsNull() {
+        edulogCalendar.add(SEC_3_MATH);
+        assertNull(edulogCalendar.findLesson(new Description(randomDescription)));
+    }
+
     @Test
     public void remove_nullLesson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> edulogCalendar.remove(null));
@@ -136,6 +191,36 @@ public class EdulogCalendarTest {
         assertThrows(LessonNotFoundException.class, () -> edulogCalendar.remove(SEC_3_MATH));
     }
 
+    @Test
+    public void remove_lessonWithSameIdentityButDifferentFields_throwsLessonNotFoundException() {
+        edulogCalendar.add(SEC_3_MATH);
+        Lesson editedMathLesson = new LessonBuilder(SEC_3_MATH).withDayOfWeek(VALID_DAY_MATH)
+                .withStartTime(VALID_START_TIME_MATH).withEndTime(VALID_END_TIME_MATH).build();
+        assertThrows(LessonNotFoundException.class, () -> edulogCalendar.remove(editedMathLesson));
+        assertTrue(edulogCalendar.contains(SEC_3_MATH));
+    }
+
+    @Test
+    public void removeLesson_existingLesson_lessonNoLongerFound() {
+        edulogCalendar.add(SEC_3_MATH);
+        edulogCalendar.removeLesson(SEC_3_MATH);
+        assertNull(edulogCalendar.findLesson(SEC_3_MATH.getDescription()));
+        assertFalse(edulogCalendar.hasLesson(SEC_3_MATH));
+    }
+
+    @Test
+    public void remove_earlierLesson_laterLessonsStillFound() {
+        edulogCalendar.setLessons(Arrays.asList(SEC_2_MATH, SEC_3_MATH, SEC_4_MATH));
+        edulogCalendar.remove(SEC_2_MATH);
+        assertEquals(SEC_4_MATH, edulogCalendar.findLesson(SEC_4_MATH.getDescription()));
+
+        Lesson editedSec4Math = new LessonBuilder(SEC_4_MATH).withDayOfWeek(VALID_DAY_MATH).build();
+        edulogCalendar.setLesson(SEC_4_MATH, editedSec4Math);
+        edulogCalendar.remove(SEC_3_MATH);
+        assertEquals(Collections.singletonList(editedSec4Math), edulogCalendar.getLessonList());
+        assertEquals(editedSec4Math, edulogCalendar.findLesson(SEC_4_MATH.getDescription()));
+    }
+
     @Test
     public void remove_existingLesson_removesLesson() {
         edulogCalendar.add(SEC_3_MATH);
@@ -179,12 +264,27 @@ public class EdulogCalendarTest {
         assertThrows(DuplicateLessonException.class, () -> edulogCalendar.setLessons(listWithDuplicateLessons));
     }
 
+    @Test
+    public void setLessons_listWithDescriptionsDifferingInCase_throwsDuplicateLessonException() {
+        Lesson upperCaseMathLesson = new LessonBuilder(SEC_3_MATH)
+                .withDescription(SEC_3_MATH.getDescription().description.toUpperCase()).build();
+        List<Lesson> listWithDuplicateLessons = Arrays.asList(SEC_3_MATH, SEC_4_MATH, upperCaseMathLesson);
+        assertThrows(DuplicateLessonException.class,
+                new DuplicateLessonException(Collections.singletonList(upperCaseMathLesson)).getMessage(), ()
+                -> edulogCalendar.setLessons(listWithDuplicateLessons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> edulogCalendar.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getLessonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> edulogCalendar.getLessonList().add(SEC_3_MATH));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(edulogCalendar.asUnmodifiableObservableList().toString(), edulogCalendar.toString());
@@ -0,0 +1,196 @@
+package seedu.edulog.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edulog.model.calendar.LessonIntervalIndex.MINUTES_PER_DAY;
+import static seedu.edulog.model.calendar.LessonIntervalIndex.MINUTES_PER_WEEK;
+import static seedu.edulog.model.calendar.LessonIntervalIndex.toMinuteOfWeek;
+import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalLessons.SEC_2_MATH;
+import static seedu.edulog.testutil.TypicalLessons.SEC_3_MATH;
+import static seedu.edulog.testutil.TypicalLessons.SEC_4_MATH;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.model.calendar.Day;
+import seedu.edulog.model.calendar.Lesson;
+import seedu.edulog.model.calendar.LessonIntervalIndex;
+import seedu.edulog.model.calendar.LessonTime;
+import seedu.edulog.testutil.LessonBuilder;
+
+public class LessonIntervalIndexTest {
+
+    private static final Lesson SUNDAY_NIGHT_LESSON = new LessonBuilder().withDescription("Sunday Night Class")
+            .withDayOfWeek("Sunday").withStartTime("2300").withEndTime("0100").build();
+
+    private final LessonIntervalIndex index = new LessonIntervalIndex();
+
+    @Test
+    public void toMinuteOfWeek_validDayAndTime_returnsMinutesSinceMondayMidnight() {
+        assertEquals(0, toMinuteOfWeek(new Day("Monday"), new LessonTime("0000")));
+        assertEquals(MINUTES_PER_DAY + 19 * 60 + 30, toMinuteOfWeek(new Day("Tuesday"), new LessonTime("1930")));
+        assertEquals(MINUTES_PER_WEEK - 1, toMinuteOfWeek(new Day("Sunday"), new LessonTime("2359")));
+    }
+
+    @Test
+    public void add_duplicateLesson_throwsIllegalArgumentException() {
+        index.add(SEC_3_MATH);
+        assertThrows(IllegalArgumentException.class, () -> index.add(SEC_3_MATH));
+    }
+
+    @Test
+    public void findAt_lessonBoundaries_startInclusiveEndExclusive() {
+        index.add(SEC_4_MATH); // Friday 1930 to 2030
+
+        assertEquals(Collections.emptyList(), index.findAt(minuteOf("Friday", "1929")));
+        assertEquals(Collections.singletonList(SEC_4_MATH), index.findAt(minuteOf("Friday", "1930")));
+        assertEquals(Collections.singletonList(SEC_4_MATH), index.findAt(minuteOf("Friday", "2029")));
+        assertEquals(Collections.emptyList(), index.findAt(minuteOf("Friday", "2030")));
+    }
+
+    @Test
+    public void findAt_lessonPastMidnight_foundOnBothDays() {
+        index.add(SEC_2_MATH); // Wednesday 2200 to Thursday 0030
+
+        assertEquals(Collections.singletonList(SEC_2_MATH), index.findAt(minuteOf("Wednesday", "2330")));
+        assertEquals(Collections.singletonList(SEC_2_MATH), index.findAt(minuteOf("Thursday", "0015")));
+        assertEquals(Collections.emptyList(), index.findAt(minuteOf("Thursday", "0030")));
+    }
+
+    @Test
+    public void findAt_lessonPastEndOfWeek_wrapsAroundToMonday() {
+        index.add(SUNDAY_NIGHT_LESSON);
+
+        assertEquals(Collections.singletonList(SUNDAY_NIGHT_LESSON), index.findAt(minuteOf("Sunday", "2359")));
+        assertEquals(Collections.singletonList(SUNDAY_NIGHT_LESSON), index.findAt(minuteOf("Monday", "0000")));
+        assertEquals(Collections.singletonList(SUNDAY_NIGHT_LESSON), index.findAt(minuteOf("Monday", "0059")));
+        assertEquals(Collections.emptyList(), index.findAt(minuteOf("Monday", "0100")));
+    }
+
+    @Test
+    public void findOverlapping_windowPastEndOfWeek_findsLessonsOnBothEndsOnce() {
+        Lesson mondayMorningLesson = new LessonBuilder().withDescription("Monday Morning Class")
+                .withDayOfWeek("Monday").withStartTime("0030").withEndTime("0130").build();
+        index.add(SUNDAY_NIGHT_LESSON);
+        index.add(mondayMorningLesson);
+        index.add(SEC_4_MATH);
+
+        List<Lesson> found = index.findOverlapping(minuteOf("Sunday", "2200"), 4 * 60);
+        assertEquals(Arrays.asList(SUNDAY_NIGHT_LESSON, mondayMorningLesson), found);
+    }
+
+    @Test
+    public void findOverlapping_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findOverlapping(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.findOverlapping(MINUTES_PER_WEEK, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.findOverlapping(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> index.findOverlapping(0, MINUTES_PER_WEEK + 1));
+    }
+
+    @Test
+    public void findClashes_overlappingLessons_excludesLessonItself() {
+        Lesson overlappingLesson = new LessonBuilder().withDescription("Fri Evening Class")
+                .withDayOfWeek("Friday").withStartTime("2000").withEndTime("2100").build();
+        Lesson adjacentLesson = new LessonBuilder().withDescription("Fri Late Class")
+                .withDayOfWeek("Friday").withStartTime("2100").withEndTime("2200").build();
+        index.add(SEC_4_MATH);
+        index.add(adjacentLesson);
+
+        // a lesson starting exactly when another ends does not clash with it
+        assertEquals(Collections.singletonList(SEC_4_MATH), index.findClashes(overlappingLesson));
+
+        index.add(overlappingLesson);
+        assertEquals(Collections.singletonList(SEC_4_MATH), index.findClashes(overlappingLesson));
+        assertEquals(Collections.singletonList(overlappingLesson), index.findClashes(SEC_4_MATH));
+        assertEquals(Collections.emptyList(), index.findClashes(adjacentLesson));
+    }
+
+    @Test
+    public void remove_indexedLesson_noLongerFound() {
+        index.add(SUNDAY_NIGHT_LESSON);
+        index.add(SEC_3_MATH);
+        index.remove(SUNDAY_NIGHT_LESSON);
+
+        assertEquals(1, index.size());
+        assertEquals(Collections.emptyList(), index.findAt(minuteOf("Sunday", "2330")));
+        assertEquals(Collections.emptyList(), index.findAt(minuteOf("Monday", "0030")));
+        assertEquals(Collections.singletonList(SEC_3_MATH), index.findAt(minuteOf("Tuesday", "0100")));
+
+        // removing a lesson that is not indexed does nothing
+        index.remove(SUNDAY_NIGHT_LESSON);
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_removesEveryLesson() {
+        index.add(SEC_2_MATH);
+        index.add(SEC_3_MATH);
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptyList(), index.findOverlapping(0, MINUTES_PER_WEEK));
+    }
+
+    @Test
+    public void findOverlapping_randomLessons_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Lesson lesson = randomLesson(random, "Class " + i);
+            lessons.add(lesson);
+            index.add(lesson);
+        }
+        for (int i = 0; i < 100; i++) {
+            index.remove(lessons.remove(random.nextInt(lessons.size())));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(MINUTES_PER_WEEK);
+            int duration = 1 + random.nextInt(MINUTES_PER_DAY);
+            List<Lesson> expected = new ArrayList<>();
+            for (Lesson lesson : lessons) {
+                if (overlaps(lesson, start, duration)) {
+                    expected.add(lesson);
+                }
+            }
+            assertEquals(new HashSet<>(expected), new HashSet<>(index.findOverlapping(start, duration)));
+        }
+    }
+
+    private static int minuteOf(String day, String time) {
+        return toMinuteOfWeek(new Day(day), new LessonTime(time));
+    }
+
+    private static Lesson randomLesson(Random random, String description) {
+        String startTime = String.format("%02d%02d", random.nextInt(24), random.nextInt(60));
+        String endTime = startTime;
+        while (endTime.equals(startTime)) {
+            endTime = String.format("%02d%02d", random.nextInt(24), random.nextInt(60));
+        }
+        return new LessonBuilder().withDescription(description)
+                .withDayOfWeek(Day.DAYS_OF_THE_WEEK.get(random.nextInt(7)))
+                .withStartTime(startTime).withEndTime(endTime).build();
+    }
+
+    /**
+     * Checks for overlap by comparing every minute of the week, as an independent reference implementation.
+     */
+    private static boolean overlaps(Lesson lesson, int start, int duration) {
+        boolean[] occupied = new boolean[MINUTES_PER_WEEK];
+        for (int i = 0; i < lesson.getDurationInMinutes(); i++) {
+            occupied[(lesson.getStartMinuteOfWeek() + i) % MINUTES_PER_WEEK] = true;
+        }
+        for (int i = 0; i < duration; i++) {
+            if (occupied[(start + i) % MINUTES_PER_WEEK]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.edulog.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalStudents.ALICE;
+import static seedu.edulog.testutil.TypicalStudents.BOB;
+
+import org.junit.jupiter.api.Test;
+
+public class ContactDetailsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ContactDetails(null, ALICE.getEmail(), ALICE.getAddress()));
+    }
+
+    @Test
+    public void equals() {
+        ContactDetails contactDetails = ALICE.getContactDetails();
+
+        // same values -> returns true
+        ContactDetails copy = new ContactDetails(ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress());
+        assertTrue(contactDetails.equals(copy));
+        assertEquals(contactDetails.hashCode(), copy.hashCode());
+
+        // same object -> returns true
+        assertTrue(contactDetails.equals(contactDetails));
+
+        // null -> returns false
+        assertFalse(contactDetails.equals(null));
+
+        // different types -> returns false
+        assertFalse(contactDetails.equals(5.0f));
+
+        // different phone -> returns false
+        assertFalse(contactDetails.equals(new ContactDetails(BOB.getPhone(), ALICE.getEmail(), ALICE.getAddress())));
+
+        // different email -> returns false
+        assertFalse(contactDetails.equals(new ContactDetails(ALICE.getPhone(), BOB.getEmail(), ALICE.getAddress())));
+
+        // different address -> returns false
+        assertFalse(contactDetails.equals(new ContactDetails(ALICE.getPhone(), ALICE.getEmail(), BOB.getAddress())));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.edulog.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameTokenIndexTest {
+
+    private static final Name ALEX_YEOH = new Name("Alex Yeoh");
+    private static final Name ALEX_TAN = new Name("alex Tan");
+    private static final Name BERNICE_YU = new Name("Bernice Yu");
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void findNamesContainingAnyWord_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.findNamesContainingAnyWord(null));
+    }
+
+    @Test
+    public void findNamesContainingAnyWord_emptyIndex_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), nameTokenIndex.findNamesContainingAnyWord(List.of("Alex")));
+    }
+
+    @Test
+    public void findNamesContainingAnyWord_multipleWords_returnsUnionIgnoringCase() {
+        nameTokenIndex.add(ALEX_YEOH);
+        nameTokenIndex.add(ALEX_TAN);
+        nameTokenIndex.add(BERNICE_YU);
+
+        assertEquals(Set.of(ALEX_YEOH, ALEX_TAN), nameTokenIndex.findNamesContainingAnyWord(List.of("ALEX")));
+        assertEquals(Set.of(ALEX_YEOH, BERNICE_YU),
+                nameTokenIndex.findNamesContainingAnyWord(Arrays.asList("yeoh", "yU")));
+
+        // full word match required
+        assertEquals(Collections.emptySet(), nameTokenIndex.findNamesContainingAnyWord(List.of("Ale")));
+
+        // blank words match nothing
+        assertEquals(Collections.emptySet(), nameTokenIndex.findNamesContainingAnyWord(Arrays.asList("", "  ")));
+    }
+
+    @Test
+    public void remove_indexedName_noLongerFound() {
+        nameTokenIndex.add(ALEX_YEOH);
+        nameTokenIndex.add(ALEX_TAN);
+        nameTokenIndex.remove(ALEX_YEOH);
+
+        assertEquals(Set.of(ALEX_TAN), nameTokenIndex.findNamesContainingAnyWord(List.of("alex")));
+        assertEquals(Collections.emptySet(), nameTokenIndex.findNamesContainingAnyWord(List.of("yeoh")));
+
+        nameTokenIndex.clear();
+        assertEquals(Collections.emptySet(), nameTokenIndex.findNamesContainingAnyWord(List.of("alex")));
+    }
+
+    @Test
+    public void findNamesContainingAnyWord_manyNames_returnsUnion() {
+        for (int i = 0; i < 100_000; i++) {
+            nameTokenIndex.add(new Name("Student " + Integer.toString(i, 36) + " Group" + (i % 100)));
+        }
+
+        Set<Name> matches = nameTokenIndex.findNamesContainingAnyWord(Arrays.asList("GROUP7", "zz", "nobody"));
+        // every hundredth student is in Group7, and exactly one student is "zz"
+        assertEquals(1001, matches.size());
+        assertTrue(matches.contains(new Name("Student zz Group" + (Integer.parseInt("zz", 36) % 100))));
+    }
+
+    @Test
+    public void findNamesApproximately_prefixesAndTypos_returnsRankedMatches() {
+        Name alexis = new Name("Alexis Ong");
+        Name alan = new Name("Alan Yu");
+        nameTokenIndex.add(ALEX_YEOH);
+        nameTokenIndex.add(alexis);
+        nameTokenIndex.add(alan);
+        nameTokenIndex.add(BERNICE_YU);
+
+        // exact matches rank above prefix matches, then by name
+        assertEquals(List.of(ALEX_YEOH, alexis), nameTokenIndex.findNamesApproximately(List.of("alex")));
+
+        // one typo in a word of up to five letters, including swapped letters
+        assertEquals(List.of(ALEX_YEOH), nameTokenIndex.findNamesApproximately(List.of("aelx")));
+        assertEquals(List.of(alan, ALEX_YEOH), nameTokenIndex.findNamesApproximately(List.of("alen")));
+
+        // two typos in longer words
+        assertEquals(List.of(BERNICE_YU), nameTokenIndex.findNamesApproximately(List.of("brenise")));
+
+        // names matching more words rank first
+        assertEquals(List.of(alan, BERNICE_YU, ALEX_YEOH, alexis),
+                nameTokenIndex.findNamesApproximately(Arrays.asList("al", "yu")));
+
+        // short words allow no typos, and blank words match nothing
+        assertEquals(Collections.emptyList(), nameTokenIndex.findNamesApproximately(Arrays.asList("xl", " ")));
+    }
+
+    @Test
+    public void remove_wordSharingPrefix_otherWordsStillFound() {
+        Name al = new Name("Al Tan");
+        nameTokenIndex.add(ALEX_YEOH);
+        nameTokenIndex.add(al);
+        nameTokenIndex.remove(ALEX_YEOH);
+
+        assertEquals(List.of(al), nameTokenIndex.findNamesApproximately(List.of("al")));
+        assertEquals(Collections.emptyList(), nameTokenIndex.findNamesApproximately(List.of("alex")));
+
+        nameTokenIndex.remove(al);
+        assertEquals(Collections.emptyList(), nameTokenIndex.findNamesApproximately(List.of("al")));
+    }
+
+    @Test
+    public void findNamesApproximately_manyNames_returnsCloseMatches() {
+        for (int i = 0; i < 100_000; i++) {
+            nameTokenIndex.add(new Name("Student " + Integer.toString(i, 36) + " Group" + (i % 100)));
+        }
+
+        List<Name> matches = nameTokenIndex.findNamesApproximately(List.of("zzx"));
+        // "zz0" to "zzz" are one substitution away, "zz" one deletion away, and "zzx" itself is an exact match
+        assertEquals(new Name("Student zzx Group" + (Integer.parseInt("zzx", 36) % 100)), matches.get(0));
+        assertTrue(matches.contains(new Name("Student zz Group" + (Integer.parseInt("zz", 36) % 100))));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.edulog.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edulog.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.SimpleIntegerProperty;
+import seedu.edulog.testutil.StudentBuilder;
+
+public class PaymentSummaryTest {
+
+    private static final Student PAID_STUDENT = new StudentBuilder().withName("Paid Student")
+            .withHasPaid(true).withFee(120).build();
+    private static final Student UNPAID_STUDENT = new StudentBuilder().withName("Unpaid Student")
+            .withHasPaid(false).withFee(80).build();
+
+    private final PaymentSummary paymentSummary = new PaymentSummary();
+
+    @Test
+    public void add_nullStudent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> paymentSummary.add(null));
+    }
+
+    @Test
+    public void add_paidAndUnpaidStudents_updatesTotalsAndCounts() {
+        paymentSummary.add(PAID_STUDENT);
+        paymentSummary.add(UNPAID_STUDENT);
+        paymentSummary.add(UNPAID_STUDENT.withPaymentStatus(true));
+
+        assertEquals(200, paymentSummary.getPaidTotal());
+        assertEquals(80, paymentSummary.getUnpaidTotal());
+        assertEquals(2, paymentSummary.getPaidCount());
+        assertEquals(1, paymentSummary.getUnpaidCount());
+    }
+
+    @Test
+    public void remove_countedStudent_reversesAdd() {
+        paymentSummary.add(PAID_STUDENT);
+        paymentSummary.add(UNPAID_STUDENT);
+        paymentSummary.remove(PAID_STUDENT);
+
+        assertEquals(0, paymentSummary.getPaidTotal());
+        assertEquals(80, paymentSummary.getUnpaidTotal());
+        assertEquals(0, paymentSummary.getPaidCount());
+        assertEquals(1, paymentSummary.getUnpaidCount());
+    }
+
+    @Test
+    public void clear_nonEmptySummary_resetsTotals() {
+        paymentSummary.add(PAID_STUDENT);
+        paymentSummary.add(UNPAID_STUDENT);
+        paymentSummary.clear();
+
+        assertEquals(0, paymentSummary.getPaidTotal());
+        assertEquals(0, paymentSummary.getUnpaidTotal());
+        assertEquals(0, paymentSummary.getPaidCount());
+        assertEquals(0, paymentSummary.getUnpaidCount());
+    }
+
+    @Test
+    public void paidTotalProperty_boundProperty_followsChanges() {
+        SimpleIntegerProperty boundPaidTotal = new SimpleIntegerProperty();
+        boundPaidTotal.bind(paymentSummary.paidTotalProperty());
+
+        paymentSummary.add(PAID_STUDENT);
+        assertEquals(120, boundPaidTotal.get());
+
+        paymentSummary.remove(PAID_STUDENT);
+        assertEquals(0, boundPaidTotal.get());
+    }
+}
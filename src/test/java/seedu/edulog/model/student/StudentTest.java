@@ -12,6 +12,8 @@ import static seedu.edulog.testutil.Assert.assertThrows;
 import static seedu.edulog.testutil.TypicalStudents.ALICE;
 import static seedu.edulog.testutil.TypicalStudents.BOB;
 
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.edulog.testutil.StudentBuilder;
@@ -90,6 +92,29 @@ public class StudentTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getContactDetails_loader_loadedWhenNeeded() {
+        int[] loadCount = new int[1];
+        Supplier<ContactDetails> loader = () -> {
+            loadCount[0]++;
+            return ALICE.getContactDetails();
+        };
+        Student lazyAlice = new Student(ALICE.getName(), ALICE.getTags(), ALICE.getHasPaid(), ALICE.getFee(), loader);
+
+        // hashing, changing payment status and comparing students sharing a loader -> not loaded
+        assertEquals(ALICE.hashCode(), lazyAlice.hashCode());
+        Student paidLazyAlice = lazyAlice.withPaymentStatus(true);
+        assertTrue(paidLazyAlice.withPaymentStatus(false).equals(lazyAlice));
+        assertEquals(0, loadCount[0]);
+
+        // contact details needed -> loaded
+        assertEquals(ALICE.getPhone(), lazyAlice.getPhone());
+        assertTrue(ALICE.equals(lazyAlice));
+        assertTrue(lazyAlice.equals(ALICE));
+        assertEquals(3, loadCount[0]);
+        assertFalse(lazyAlice.equals(BOB));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Student.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -0,0 +1,66 @@
+package seedu.edulog.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edulog.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.model.tag.Tag;
+import seedu.edulog.testutil.StudentBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag MATH = new Tag("math");
+    private static final Tag PHYSICS = new Tag("physics");
+    private static final Tag SEC3 = new Tag("sec3");
+
+    private static final Student ALEX = new StudentBuilder().withName("Alex").withTags("math", "sec3").build();
+    private static final Student BERNICE = new StudentBuilder().withName("Bernice").withTags("physics", "sec3")
+            .build();
+    private static final Student CHARLOTTE = new StudentBuilder().withName("Charlotte").withTags("math").build();
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void findNamesMatching_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.findNamesMatching(null));
+    }
+
+    @Test
+    public void findNamesMatching_tagGroups_returnsNamesMatchingEveryGroup() {
+        tagIndex.add(ALEX);
+        tagIndex.add(BERNICE);
+        tagIndex.add(CHARLOTTE);
+
+        // tags within a group are combined with OR
+        assertEquals(Set.of(ALEX.getName(), BERNICE.getName(), CHARLOTTE.getName()),
+                tagIndex.findNamesMatching(List.of(Set.of(MATH, PHYSICS))));
+
+        // groups are combined with AND
+        assertEquals(Set.of(ALEX.getName(), BERNICE.getName()),
+                tagIndex.findNamesMatching(List.of(Set.of(MATH, PHYSICS), Set.of(SEC3))));
+        assertEquals(Set.of(ALEX.getName()), tagIndex.findNamesMatching(List.of(Set.of(MATH), Set.of(SEC3))));
+
+        // an unmatched group, or no groups, match nothing
+        assertEquals(Collections.emptySet(),
+                tagIndex.findNamesMatching(List.of(Set.of(MATH), Set.of(new Tag("unknown")))));
+        assertEquals(Collections.emptySet(), tagIndex.findNamesMatching(List.of()));
+    }
+
+    @Test
+    public void remove_indexedStudent_noLongerFound() {
+        tagIndex.add(ALEX);
+        tagIndex.add(CHARLOTTE);
+        tagIndex.remove(ALEX);
+
+        assertEquals(Set.of(CHARLOTTE.getName()), tagIndex.findNamesWithTag(MATH));
+        assertEquals(Collections.emptySet(), tagIndex.findNamesWithTag(SEC3));
+
+        tagIndex.clear();
+        assertEquals(Collections.emptySet(), tagIndex.findNamesWithTag(MATH));
+    }
+}
@@ -8,13 +8,17 @@ import static seedu.edulog.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.edulog.testutil.Assert.assertThrows;
 import static seedu.edulog.testutil.TypicalStudents.ALICE;
 import static seedu.edulog.testutil.TypicalStudents.BOB;
+import static seedu.edulog.testutil.TypicalStudents.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.edulog.model.student.exceptions.DuplicateStudentException;
 import seedu.edulog.model.student.exceptions.StudentNotFoundException;
 import seedu.edulog.testutil.StudentBuilder;
@@ -127,6 +131,47 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_studentWithSameIdentityButDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_studentBeforeOthers_keepsLaterStudentsReachable() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.remove(ALICE);
+
+        assertEquals(0, uniqueStudentList.indexOf(BOB));
+        assertEquals(1, uniqueStudentList.indexOf(CARL));
+        uniqueStudentList.setStudent(CARL, ALICE);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BOB);
+        expectedUniqueStudentList.add(ALICE);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void indexOf_studentNotInList_returnsMinusOne() {
+        assertEquals(-1, uniqueStudentList.indexOf(ALICE));
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniqueStudentList.indexOf(editedAlice));
+    }
+
+    @Test
+    public void contains_afterIdentityChangingEdit_tracksNewIdentity() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+        uniqueStudentList.add(ALICE);
+        assertEquals(1, uniqueStudentList.indexOf(ALICE));
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -162,6 +207,28 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithDuplicateStudents_namesCollidingStudents() {
+        Student editedBob = new StudentBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BOB, CARL, ALICE, editedBob);
+        assertThrows(DuplicateStudentException.class, new DuplicateStudentException(Arrays.asList(ALICE, editedBob))
+                .getMessage(), () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+    }
+
+    @Test
+    public void setStudents_largeList_validatesWholeList() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            students.add(new StudentBuilder().withName("Student " + i).build());
+        }
+
+        uniqueStudentList.setStudents(students);
+        assertTrue(uniqueStudentList.contains(students.get(students.size() - 1)));
+
+        students.add(students.get(0));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(students));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +239,111 @@ public class UniqueStudentListTest {
     public void toStringMethod() {
         assertEquals(uniqueStudentList.asUnmodifiableObservableList().toString(), uniqueStudentList.toString());
     }
+
+    @Test
+    public void getPaymentSummary_studentsAddedReplacedAndRemoved_tracksTotals() {
+        Student paidAlice = new StudentBuilder(ALICE).withHasPaid(true).withFee(150).build();
+        Student unpaidBob = new StudentBuilder(BOB).withHasPaid(false).withFee(50).build();
+        uniqueStudentList.add(paidAlice);
+        uniqueStudentList.add(unpaidBob);
+
+        PaymentSummary paymentSummary = uniqueStudentList.getPaymentSummary();
+        assertEquals(150, paymentSummary.getPaidTotal());
+        assertEquals(50, paymentSummary.getUnpaidTotal());
+
+        uniqueStudentList.setStudent(unpaidBob, unpaidBob.withPaymentStatus(true));
+        assertEquals(200, paymentSummary.getPaidTotal());
+        assertEquals(0, paymentSummary.getUnpaidTotal());
+        assertEquals(2, paymentSummary.getPaidCount());
+
+        uniqueStudentList.remove(paidAlice);
+        assertEquals(50, paymentSummary.getPaidTotal());
+        assertEquals(1, paymentSummary.getPaidCount());
+
+        uniqueStudentList.setStudents(Collections.singletonList(paidAlice.withPaymentStatus(false)));
+        assertEquals(0, paymentSummary.getPaidTotal());
+        assertEquals(150, paymentSummary.getUnpaidTotal());
+        assertEquals(0, paymentSummary.getPaidCount());
+        assertEquals(1, paymentSummary.getUnpaidCount());
+    }
+
+    @Test
+    public void updateStudents_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.updateStudents(null, student -> student));
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.updateStudents(student -> true, null));
+    }
+
+    @Test
+    public void updateStudents_matchingStudents_updatedInSingleChange() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BOB, CARL));
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        ListChangeListener<Student> listener = changes::add;
+        uniqueStudentList.asUnmodifiableObservableList().addListener(listener);
+
+        uniqueStudentList.updateStudents(student -> !student.isSameStudent(BOB),
+                student -> student.withPaymentStatus(true));
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ALICE.withPaymentStatus(true), BOB, CARL.withPaymentStatus(true)),
+                uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueStudentList.getPaymentSummary().getPaidCount());
+        assertEquals(2, uniqueStudentList.indexOf(CARL.withPaymentStatus(true)));
+    }
+
+    @Test
+    public void updateStudents_noMatchingStudents_noChange() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BOB));
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        ListChangeListener<Student> listener = changes::add;
+        uniqueStudentList.asUnmodifiableObservableList().addListener(listener);
+
+        uniqueStudentList.updateStudents(student -> false, student -> student.withPaymentStatus(true));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void updateStudents_updateCausesDuplicates_throwsDuplicateStudentException() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BOB));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.updateStudents(student -> true,
+                student -> ALICE));
+
+        // list is left unchanged
+        assertEquals(Arrays.asList(ALICE, BOB), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateStudents_largeList_updatedInSingleChange() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            students.add(new StudentBuilder().withName("Student " + i).build());
+        }
+        uniqueStudentList.setStudents(students);
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        ListChangeListener<Student> listener = changes::add;
+        uniqueStudentList.asUnmodifiableObservableList().addListener(listener);
+
+        uniqueStudentList.updateStudents(student -> true, student -> student.withPaymentStatus(true));
+
+        assertEquals(1, changes.size());
+        assertEquals(students.size(), uniqueStudentList.getPaymentSummary().getPaidCount());
+    }
+
+    @Test
+    public void getNameTokenIndex_studentsAddedRenamedAndRemoved_tracksNames() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        NameTokenIndex nameTokenIndex = uniqueStudentList.getNameTokenIndex();
+        assertEquals(Set.of(ALICE.getName()), nameTokenIndex.findNamesContainingAnyWord(List.of("alice")));
+
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        uniqueStudentList.setStudent(ALICE, renamedAlice);
+        assertTrue(nameTokenIndex.findNamesContainingAnyWord(List.of("alice")).isEmpty());
+        assertEquals(Set.of(renamedAlice.getName()), nameTokenIndex.findNamesContainingAnyWord(List.of("pauline")));
+
+        uniqueStudentList.remove(BOB);
+        assertTrue(nameTokenIndex.findNamesContainingAnyWord(List.of(BOB.getName().fullName.split(" ")[0])).isEmpty());
+
+        uniqueStudentList.setStudents(List.of(CARL));
+        assertEquals(Set.of(CARL.getName()), nameTokenIndex.findNamesContainingAnyWord(List.of("KURZ", "pauline")));
+    }
 }
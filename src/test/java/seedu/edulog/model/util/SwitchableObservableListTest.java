@@ -0,0 +1,63 @@
+package seedu.edulog.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SwitchableObservableListTest {
+
+    private final ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> second = FXCollections.observableArrayList("x", "y", "z");
+    private final SwitchableObservableList<String> list = new SwitchableObservableList<>(first);
+    private final List<String> changes = new ArrayList<>();
+
+    @Test
+    public void sourceChanged_changeForwarded() {
+        ListChangeListener<String> listener = change -> {
+            while (change.next()) {
+                changes.add(change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        };
+        list.addListener(listener);
+
+        first.add("c");
+        first.set(0, "A");
+        assertEquals(3, list.size());
+        assertEquals(List.of("A", "b", "c"), list);
+        assertEquals(List.of("[]->[c]", "[a]->[A]"), changes);
+    }
+
+    @Test
+    public void setSource_singleReplacement() {
+        List<String> removedSizes = new ArrayList<>();
+        ListChangeListener<String> listener = change -> {
+            while (change.next()) {
+                removedSizes.add(change.getRemovedSize() + "->" + change.getAddedSize());
+            }
+        };
+        list.addListener(listener);
+
+        list.setSource(second);
+        assertEquals(second, list);
+        assertEquals(List.of("2->3"), removedSizes);
+
+        // switching to the list already shown does nothing
+        list.setSource(second);
+        assertEquals(1, removedSizes.size());
+
+        // changes to the previous list are no longer forwarded
+        first.add("c");
+        assertEquals(1, removedSizes.size());
+        second.remove("y");
+        assertTrue(removedSizes.contains("1->0"));
+        assertEquals(List.of("x", "z"), list);
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.edulog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
+import static seedu.edulog.testutil.TypicalStudents.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.commons.util.FileUtil;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.testutil.StudentBuilder;
+
+public class BinaryEduLogStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("EduLog.bin");
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "edulog.bin"),
+                BinaryEduLogStorage.getBinaryFilePath(Paths.get("data", "edulog.json")));
+        assertEquals(Paths.get("edulog.bin"), BinaryEduLogStorage.getBinaryFilePath(Paths.get("edulog")));
+    }
+
+    @Test
+    public void readEduLog_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryEduLogStorage(filePath).readEduLog().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEduLog_allInOrder_success() throws Exception {
+        EduLog original = getTypicalEduLog();
+        BinaryEduLogStorage storage = new BinaryEduLogStorage(filePath);
+        storage.saveEduLog(original);
+        assertEquals(original, new EduLog(storage.readEduLog().get()));
+
+        original.addStudent(HOON);
+        storage.saveEduLog(original);
+        assertEquals(original, new EduLog(storage.readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_sharedStrings_storedOnce() throws Exception {
+        EduLog eduLog = new EduLog();
+        for (int i = 0; i < 100; i++) {
+            eduLog.addStudent(new StudentBuilder().withName("Student " + i).withPhone(String.valueOf(90000000 + i))
+                    .withTags("sec4", "math").build());
+        }
+        Path jsonFilePath = testFolder.resolve("EduLog.json");
+        new JsonEduLogStorage(jsonFilePath, false).saveEduLog(eduLog);
+        BinaryEduLogStorage storage = new BinaryEduLogStorage(filePath);
+        storage.saveEduLog(eduLog);
+
+        assertTrue(Files.size(filePath) * 2 < Files.size(jsonFilePath));
+        assertEquals(eduLog, new EduLog(storage.readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_notBinaryFormat_throwDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("EduLog.json");
+        new JsonEduLogStorage(jsonFilePath).saveEduLog(getTypicalEduLog());
+        assertThrows(DataLoadingException.class, () -> new BinaryEduLogStorage(jsonFilePath).readEduLog());
+    }
+
+    @Test
+    public void readEduLog_truncatedFile_throwDataLoadingException() throws Exception {
+        new BinaryEduLogStorage(filePath).saveEduLog(getTypicalEduLog());
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryEduLogStorage(filePath).readEduLog());
+    }
+
+    @Test
+    public void readEduLog_invalidFee_throwDataLoadingException() throws Exception {
+        EduLog eduLog = new EduLog();
+        eduLog.addStudent(new StudentBuilder().withFee(123).withTags().build());
+        new BinaryEduLogStorage(filePath).saveEduLog(eduLog);
+
+        // the fee is the last field of the only student, followed by the tag and lesson counts
+        byte[] contents = Files.readAllBytes(filePath);
+        int feeOffset = contents.length - 3 * Integer.BYTES;
+        contents[feeOffset] = (byte) 0xFF;
+        Files.write(filePath, contents);
+        assertThrows(DataLoadingException.class, () -> new BinaryEduLogStorage(filePath).readEduLog());
+    }
+
+    @Test
+    public void saveEduLog_atomic_backupsRotated() throws Exception {
+        BinaryEduLogStorage storage = new BinaryEduLogStorage(filePath, true, 1);
+        EduLog eduLog = getTypicalEduLog();
+        storage.saveEduLog(eduLog);
+        byte[] firstSave = Files.readAllBytes(filePath);
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+
+        assertEquals(eduLog, new EduLog(storage.readEduLog().get()));
+        assertTrue(Arrays.equals(firstSave, Files.readAllBytes(FileUtil.getBackupFilePath(filePath, 1))));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(filePath)));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.edulog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
+import static seedu.edulog.testutil.TypicalStudents.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edulog.model.EduLog;
+
+public class EduLogStorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonEduLogStorage jsonStorage;
+    private BinaryEduLogStorage binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonStorage = new JsonEduLogStorage(testFolder.resolve("EduLog.json"));
+        binaryStorage = new BinaryEduLogStorage(testFolder.resolve("EduLog.bin"));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameEduLog() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        jsonStorage.saveEduLog(eduLog);
+        assertTrue(EduLogStorageConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(eduLog, new EduLog(binaryStorage.readEduLog().get()));
+
+        Files.delete(jsonStorage.getEduLogFilePath());
+        assertTrue(EduLogStorageConverter.convert(binaryStorage, jsonStorage));
+        assertEquals(eduLog, new EduLog(jsonStorage.readEduLog().get()));
+    }
+
+    @Test
+    public void convert_missingSource_nothingConverted() throws Exception {
+        assertFalse(EduLogStorageConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getEduLogFilePath()));
+    }
+
+    @Test
+    public void convertIfNewer_targetNewer_nothingConverted() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        jsonStorage.saveEduLog(eduLog);
+        binaryStorage.saveEduLog(new EduLog());
+        setLastModified(jsonStorage, 1000);
+        setLastModified(binaryStorage, 2000);
+
+        assertFalse(EduLogStorageConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(new EduLog(), new EduLog(binaryStorage.readEduLog().get()));
+    }
+
+    @Test
+    public void convertIfNewer_sourceNewer_converted() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        binaryStorage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        jsonStorage.saveEduLog(eduLog);
+        setLastModified(binaryStorage, 1000);
+        setLastModified(jsonStorage, 2000);
+
+        assertTrue(EduLogStorageConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(eduLog, new EduLog(binaryStorage.readEduLog().get()));
+    }
+
+    @Test
+    public void convertNewestIfNewer_newestSourceConverted() throws Exception {
+        IndexedEduLogStorage indexedStorage = new IndexedEduLogStorage(testFolder.resolve("EduLog.idx"));
+        EduLog eduLog = getTypicalEduLog();
+        jsonStorage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        binaryStorage.saveEduLog(eduLog);
+        indexedStorage.saveEduLog(new EduLog());
+        setLastModified(jsonStorage, 2000);
+        setLastModified(binaryStorage, 3000);
+        setLastModified(indexedStorage, 1000);
+
+        assertTrue(EduLogStorageConverter.convertNewestIfNewer(List.of(jsonStorage, binaryStorage), indexedStorage));
+        assertEquals(eduLog, new EduLog(indexedStorage.readEduLog().get()));
+    }
+
+    @Test
+    public void convertNewestIfNewer_noSourceFiles_nothingConverted() throws Exception {
+        IndexedEduLogStorage indexedStorage = new IndexedEduLogStorage(testFolder.resolve("EduLog.idx"));
+        assertFalse(EduLogStorageConverter.convertNewestIfNewer(List.of(jsonStorage, binaryStorage), indexedStorage));
+        assertFalse(Files.exists(indexedStorage.getEduLogFilePath()));
+    }
+
+    private static void setLastModified(EduLogStorage storage, long millis) throws Exception {
+        Files.setLastModifiedTime(storage.getEduLogFilePath(), FileTime.fromMillis(millis));
+    }
+}
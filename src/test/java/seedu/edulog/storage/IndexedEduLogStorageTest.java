@@ -0,0 +1,153 @@
+package seedu.edulog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
+import static seedu.edulog.testutil.TypicalStudents.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.student.Student;
+import seedu.edulog.storage.IndexedEduLogStorage.StoredContactDetails;
+import seedu.edulog.testutil.StudentBuilder;
+
+public class IndexedEduLogStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path recordsFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("EduLog.idx");
+        recordsFilePath = IndexedEduLogStorage.getRecordsFilePath(filePath, 0);
+    }
+
+    @Test
+    public void getIndexFilePath() {
+        assertEquals(Paths.get("data", "edulog.idx"),
+                IndexedEduLogStorage.getIndexFilePath(Paths.get("data", "edulog.json")));
+        assertEquals(Paths.get("data", "edulog.idx.records.3"),
+                IndexedEduLogStorage.getRecordsFilePath(Paths.get("data", "edulog.idx"), 3));
+    }
+
+    @Test
+    public void readEduLog_missingFile_emptyResult() throws Exception {
+        assertFalse(new IndexedEduLogStorage(filePath).readEduLog().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEduLog_allInOrder_success() throws Exception {
+        EduLog original = getTypicalEduLog();
+        IndexedEduLogStorage storage = new IndexedEduLogStorage(filePath);
+        storage.saveEduLog(original);
+        assertEquals(original, new EduLog(storage.readEduLog().get()));
+
+        original.addStudent(HOON);
+        storage.saveEduLog(original);
+        assertEquals(original, new EduLog(storage.readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_contactDetailsLoadedWhenNeeded() throws Exception {
+        EduLog original = getTypicalEduLog();
+        new IndexedEduLogStorage(filePath).saveEduLog(original);
+
+        EduLog eduLog = new EduLog(new IndexedEduLogStorage(filePath).readEduLog().get());
+        for (Student student : eduLog.getStudentList()) {
+            assertFalse(getStoredContactDetails(student).isLoaded());
+        }
+
+        Student student = eduLog.getStudentList().get(0);
+        assertEquals(original.getStudentList().get(0).getPhone(), student.getPhone());
+        assertTrue(getStoredContactDetails(student).isLoaded());
+        assertFalse(getStoredContactDetails(eduLog.getStudentList().get(1)).isLoaded());
+    }
+
+    @Test
+    public void saveEduLog_unchangedStudents_recordsNotWrittenAgain() throws Exception {
+        new IndexedEduLogStorage(filePath).saveEduLog(getTypicalEduLog());
+        long recordsFileSize = Files.size(recordsFilePath);
+
+        IndexedEduLogStorage storage = new IndexedEduLogStorage(filePath);
+        EduLog eduLog = new EduLog(storage.readEduLog().get());
+        Student target = eduLog.getStudentList().get(0);
+        Student editedStudent = new StudentBuilder().withName(target.getName().fullName).withPhone("91234567")
+                .build();
+        eduLog.setStudent(target, editedStudent);
+        eduLog.markStudent(eduLog.getStudentList().get(1));
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+
+        long appendedSize = IndexedEduLogFormat.encodeRecord(editedStudent.getContactDetails()).length
+                + IndexedEduLogFormat.encodeRecord(HOON.getContactDetails()).length;
+        assertEquals(recordsFileSize + appendedSize, Files.size(recordsFilePath));
+        for (int i = 1; i < eduLog.getStudentList().size() - 1; i++) {
+            assertFalse(getStoredContactDetails(eduLog.getStudentList().get(i)).isLoaded());
+        }
+        assertEquals(eduLog, new EduLog(new IndexedEduLogStorage(filePath).readEduLog().get()));
+
+        // records saved earlier by the same storage are reused, even by students not read from the file
+        storage.saveEduLog(eduLog);
+        assertEquals(recordsFileSize + appendedSize, Files.size(recordsFilePath));
+    }
+
+    @Test
+    public void readEduLog_mostRecordsUnused_recordsCompacted() throws Exception {
+        EduLog eduLog = new EduLog();
+        for (int i = 0; i < 2000; i++) {
+            eduLog.addStudent(new StudentBuilder().withName("Student " + i).withPhone(String.valueOf(90000000 + i))
+                    .build());
+        }
+        IndexedEduLogStorage storage = new IndexedEduLogStorage(filePath);
+        storage.saveEduLog(eduLog);
+        eduLog.setStudents(new ArrayList<>(eduLog.getStudentList().subList(0, 10)));
+        storage.saveEduLog(eduLog);
+
+        assertEquals(eduLog, new EduLog(new IndexedEduLogStorage(filePath).readEduLog().get()));
+        Path compactedRecordsFilePath = IndexedEduLogStorage.getRecordsFilePath(filePath, 1);
+        assertFalse(Files.exists(recordsFilePath));
+        assertEquals(10 * IndexedEduLogFormat.encodeRecord(eduLog.getStudentList().get(0).getContactDetails()).length,
+                Files.size(compactedRecordsFilePath));
+    }
+
+    @Test
+    public void readEduLog_notIndexFormat_throwDataLoadingException() throws Exception {
+        new BinaryEduLogStorage(filePath).saveEduLog(getTypicalEduLog());
+        assertThrows(DataLoadingException.class, () -> new IndexedEduLogStorage(filePath).readEduLog());
+    }
+
+    @Test
+    public void readEduLog_truncatedRecordsFile_throwDataLoadingException() throws Exception {
+        new IndexedEduLogStorage(filePath).saveEduLog(getTypicalEduLog());
+        byte[] contents = Files.readAllBytes(recordsFilePath);
+        Files.write(recordsFilePath, Arrays.copyOf(contents, contents.length - 3));
+        assertThrows(DataLoadingException.class, () -> new IndexedEduLogStorage(filePath).readEduLog());
+    }
+
+    @Test
+    public void getContactDetails_recordsFileChanged_throwsIllegalStateException() throws Exception {
+        new IndexedEduLogStorage(filePath).saveEduLog(getTypicalEduLog());
+        EduLog eduLog = new EduLog(new IndexedEduLogStorage(filePath).readEduLog().get());
+        Files.write(recordsFilePath, new byte[(int) Files.size(recordsFilePath)]);
+        assertThrows(IllegalStateException.class, () -> eduLog.getStudentList().get(0).getPhone());
+    }
+
+    private static StoredContactDetails getStoredContactDetails(Student student) {
+        return (StoredContactDetails) student.getContactDetailsLoader().get();
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.edulog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
+import static seedu.edulog.testutil.TypicalStudents.ALICE;
+import static seedu.edulog.testutil.TypicalStudents.BENSON;
+import static seedu.edulog.testutil.TypicalStudents.HOON;
+import static seedu.edulog.testutil.TypicalStudents.IDA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edulog.model.EduLog;
+import seedu.edulog.testutil.StudentBuilder;
+
+public class JournaledEduLogStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("EduLog.json");
+        journalPath = JournaledEduLogStorage.getJournalPath(filePath);
+    }
+
+    @Test
+    public void readEduLog_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledEduLogStorage(filePath, 10).readEduLog().isPresent());
+    }
+
+    @Test
+    public void saveEduLog_changes_appendedToJournalAndReadBack() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 10);
+        storage.saveEduLog(eduLog);
+        String dataFileContents = Files.readString(filePath);
+
+        eduLog.addStudent(HOON);
+        eduLog.removeStudent(ALICE);
+        storage.saveEduLog(eduLog);
+        eduLog.setStudent(BENSON, new StudentBuilder(BENSON).withPhone("12345678").build());
+        storage.saveEduLog(eduLog);
+
+        // the data file is left alone, and each save appends one record after the header
+        assertEquals(dataFileContents, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(eduLog, new EduLog(new JournaledEduLogStorage(filePath, 10).readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_noChanges_nothingWritten() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 10);
+        storage.saveEduLog(eduLog);
+        storage.saveEduLog(eduLog);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveEduLog_thresholdReached_journalCompacted() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 2);
+        storage.saveEduLog(eduLog);
+
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        eduLog.addStudent(IDA);
+        storage.saveEduLog(eduLog);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(eduLog, new EduLog(new JsonEduLogStorage(filePath).readEduLog().get()));
+        assertEquals(eduLog, new EduLog(new JournaledEduLogStorage(filePath, 2).readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_incompleteLastRecord_ignored() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 10);
+        storage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+        EduLog expected = new EduLog(eduLog);
+
+        Files.writeString(journalPath, "[{\"list\":\"students\",\"at\":0", StandardOpenOption.APPEND);
+        assertEquals(expected, new EduLog(new JournaledEduLogStorage(filePath, 10).readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_invalidRecord_earlierRecordsKept() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 10);
+        storage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+        EduLog expected = new EduLog(eduLog);
+
+        // the first change of the invalid record fits, so it must not be kept either
+        Files.write(journalPath, List.of("[{\"list\":\"students\",\"at\":0,\"removed\":1},"
+                        + "{\"list\":\"students\",\"at\":100,\"removed\":1}]", "[]"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(expected, new EduLog(new JournaledEduLogStorage(filePath, 10).readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_unreadableRecordBeforeLast_earlierRecordsKept() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 10);
+        storage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+        EduLog expected = new EduLog(eduLog);
+
+        // a record cut short, with the next record written after it on the same line
+        Files.write(journalPath, List.of("[{\"list\":\"students\",\"at\":0[]", "[]"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(expected, new EduLog(new JournaledEduLogStorage(filePath, 10).readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_journalDeleted_journalCompacted() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 10);
+        storage.saveEduLog(eduLog);
+        Files.delete(journalPath);
+
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(eduLog, new EduLog(new JsonEduLogStorage(filePath).readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_dataFileReplaced_journalIgnored() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(filePath, 10);
+        storage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+
+        // the data file is rewritten without going through the journal, e.g. by hand
+        EduLog replacement = new EduLog();
+        replacement.addStudent(IDA);
+        new JsonEduLogStorage(filePath).saveEduLog(replacement);
+        assertEquals(replacement, new EduLog(new JournaledEduLogStorage(filePath, 10).readEduLog().get()));
+    }
+
+    @Test
+    public void compactJournal_formatSwitchedWithRecordsInJournal_recordsKept() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        JsonEduLogStorage jsonStorage = new JsonEduLogStorage(filePath);
+        JournaledEduLogStorage storage = new JournaledEduLogStorage(jsonStorage, 10);
+        storage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        eduLog.removeStudent(ALICE);
+        storage.saveEduLog(eduLog);
+
+        // the data file is switched to the binary format with the journal turned off
+        BinaryEduLogStorage binaryStorage = new BinaryEduLogStorage(BinaryEduLogStorage.getBinaryFilePath(filePath));
+        assertTrue(JournaledEduLogStorage.compactJournal(jsonStorage));
+        EduLogStorageConverter.convertIfNewer(jsonStorage, binaryStorage);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(eduLog, new EduLog(jsonStorage.readEduLog().get()));
+        assertEquals(eduLog, new EduLog(binaryStorage.readEduLog().get()));
+    }
+
+    @Test
+    public void compactJournal_noRecordsInJournal_dataFileUnchanged() throws Exception {
+        JsonEduLogStorage jsonStorage = new JsonEduLogStorage(filePath);
+        new JournaledEduLogStorage(jsonStorage, 10).saveEduLog(getTypicalEduLog());
+        FileTime lastModified = Files.getLastModifiedTime(filePath);
+
+        assertFalse(JournaledEduLogStorage.compactJournal(jsonStorage));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(lastModified, Files.getLastModifiedTime(filePath));
+        assertFalse(JournaledEduLogStorage.compactJournal(jsonStorage));
+    }
+}
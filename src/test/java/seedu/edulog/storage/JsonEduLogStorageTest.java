@@ -2,6 +2,7 @@ package seedu.edulog.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edulog.testutil.Assert.assertThrows;
 import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
 import static seedu.edulog.testutil.TypicalStudents.ALICE;
@@ -9,18 +10,24 @@ import static seedu.edulog.testutil.TypicalStudents.HOON;
 import static seedu.edulog.testutil.TypicalStudents.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.commons.util.FileUtil;
+import seedu.edulog.commons.util.JsonUtil;
 import seedu.edulog.model.EduLog;
 import seedu.edulog.model.ReadOnlyEduLog;
 
 public class JsonEduLogStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonEduLogStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableEduLogTest");
 
     @TempDir
     public Path testFolder;
@@ -60,6 +67,26 @@ public class JsonEduLogStorageTest {
         assertThrows(DataLoadingException.class, () -> readEduLog("invalidAndValidStudentEduLog.json"));
     }
 
+    @Test
+    public void readEduLog_typicalEduLogWithUnknownFields_success() throws Exception {
+        Path typicalEduLogFile = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalEduLog.json");
+        ReadOnlyEduLog readBack = new JsonEduLogStorage(typicalEduLogFile).readEduLog().get();
+        assertEquals(getTypicalEduLog(), new EduLog(readBack));
+    }
+
+    @Test
+    public void readEduLog_duplicateStudents_throwDataLoadingException() {
+        Path duplicateEduLogFile = SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateEduLog.json");
+        assertThrows(DataLoadingException.class, () -> new JsonEduLogStorage(duplicateEduLogFile).readEduLog());
+    }
+
+    @Test
+    public void readEduLog_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedEduLog.json");
+        Files.writeString(filePath, "{ \"students\" : [ ");
+        assertThrows(DataLoadingException.class, () -> new JsonEduLogStorage(filePath).readEduLog());
+    }
+
     @Test
     public void readAndSaveEduLog_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempEduLog.json");
@@ -86,6 +113,81 @@ public class JsonEduLogStorageTest {
 
     }
 
+    @Test
+    public void saveEduLog_prettyPrinted_sameAsSerializedEduLog() throws Exception {
+        Path filePath = testFolder.resolve("PrettyEduLog.json");
+        EduLog original = getTypicalEduLog();
+        new JsonEduLogStorage(filePath).saveEduLog(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableEduLog(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveEduLog_compact_smallerAndReadBack() throws Exception {
+        Path prettyFilePath = testFolder.resolve("PrettyEduLog.json");
+        Path compactFilePath = testFolder.resolve("CompactEduLog.json");
+        EduLog original = getTypicalEduLog();
+        new JsonEduLogStorage(prettyFilePath).saveEduLog(original);
+        JsonEduLogStorage compactStorage = new JsonEduLogStorage(compactFilePath, false);
+        compactStorage.saveEduLog(original);
+
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertEquals(original, new EduLog(compactStorage.readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_compressedFile_smallerAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("EduLog.json");
+        Path compressedFilePath = testFolder.resolve("EduLog.json" + FileUtil.COMPRESSED_FILE_EXTENSION);
+        EduLog original = getTypicalEduLog();
+        new JsonEduLogStorage(filePath).saveEduLog(original);
+        JsonEduLogStorage compressedStorage = new JsonEduLogStorage(compressedFilePath, true, true, 0);
+        compressedStorage.saveEduLog(original);
+
+        assertTrue(Files.size(compressedFilePath) < Files.size(filePath));
+        assertEquals(original, new EduLog(compressedStorage.readEduLog().get()));
+
+        // compressed files are recognised by their contents, whatever their name
+        Files.move(compressedFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(original, new EduLog(new JsonEduLogStorage(filePath).readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_atomic_backupsRotated() throws Exception {
+        Path filePath = testFolder.resolve("AtomicEduLog.json");
+        JsonEduLogStorage storage = new JsonEduLogStorage(filePath, true, true, 2);
+        EduLog eduLog = getTypicalEduLog();
+        storage.saveEduLog(eduLog);
+        String firstSave = Files.readString(filePath);
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+        String secondSave = Files.readString(filePath);
+        eduLog.addStudent(IDA);
+        storage.saveEduLog(eduLog);
+
+        assertEquals(eduLog, new EduLog(storage.readEduLog().get()));
+        assertEquals(secondSave, Files.readString(FileUtil.getBackupFilePath(filePath, 1)));
+        assertEquals(firstSave, Files.readString(FileUtil.getBackupFilePath(filePath, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(filePath, 3)));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(filePath)));
+    }
+
+    @Test
+    public void saveEduLog_atomicSaveFails_dataFileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("AtomicEduLog.json");
+        JsonEduLogStorage storage = new JsonEduLogStorage(filePath, true, true, 1);
+        storage.saveEduLog(getTypicalEduLog());
+        String savedContents = Files.readString(filePath);
+
+        // a directory in the way of the temporary file makes writing it fail
+        Files.createDirectory(FileUtil.getTempFilePath(filePath));
+        EduLog eduLog = getTypicalEduLog();
+        eduLog.addStudent(HOON);
+        assertThrows(IOException.class, () -> storage.saveEduLog(eduLog));
+
+        assertEquals(savedContents, Files.readString(filePath));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(filePath, 1)));
+    }
+
     @Test
     public void saveEduLog_nullEduLog_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveEduLog(null, "SomeFile.json"));
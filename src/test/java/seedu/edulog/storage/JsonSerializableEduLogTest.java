@@ -40,8 +40,9 @@ public class JsonSerializableEduLogTest {
     public void toModelType_duplicateItems_throwsIllegalValueException() throws Exception {
         JsonSerializableEduLog dataFromFile = JsonUtil.readJsonFile(DUPLICATE_EDULOG_FILE,
                 JsonSerializableEduLog.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableEduLog.MESSAGE_DUPLICATE_STUDENT,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(StudentListConverter.MESSAGE_INVALID_STUDENTS, 1) + "\n"
+                + String.format(StudentListConverter.MESSAGE_DUPLICATE_ROW, 2, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
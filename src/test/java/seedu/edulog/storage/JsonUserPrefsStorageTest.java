@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.edulog.commons.core.GuiSettings;
+import seedu.edulog.commons.core.StorageSettings;
+import seedu.edulog.commons.core.StorageSettings.DataFileFormat;
 import seedu.edulog.commons.exceptions.DataLoadingException;
 import seedu.edulog.model.UserPrefs;
 
@@ -70,6 +72,15 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidStorageSettings_defaultValuesUsed() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setStorageSettings(new StorageSettings(true, 1000, true, 2, DataFileFormat.JSON, false, 4));
+        UserPrefs actual = readUserPrefs("InvalidStorageSettingsUserPref.json").get();
+
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
@@ -0,0 +1,207 @@
+package seedu.edulog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
+import static seedu.edulog.testutil.TypicalStudents.ALICE;
+import static seedu.edulog.testutil.TypicalStudents.HOON;
+import static seedu.edulog.testutil.TypicalStudents.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edulog.commons.exceptions.DataLoadingException;
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.student.Student;
+import seedu.edulog.testutil.StudentBuilder;
+
+public class ShardedEduLogStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directoryPath;
+
+    @BeforeEach
+    public void setUp() {
+        directoryPath = testFolder.resolve("EduLog.json.shards");
+    }
+
+    @Test
+    public void constructor_nonPositiveShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedEduLogStorage(directoryPath, 0));
+    }
+
+    @Test
+    public void getShardDirectoryPath() {
+        assertEquals(Paths.get("data", "edulog.json.shards"),
+                ShardedEduLogStorage.getShardDirectoryPath(Paths.get("data", "edulog.json")));
+    }
+
+    @Test
+    public void readEduLog_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedEduLogStorage(directoryPath, SHARD_COUNT).readEduLog().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEduLog_allInOrder_success() throws Exception {
+        EduLog original = getTypicalEduLog();
+        ShardedEduLogStorage storage = new ShardedEduLogStorage(directoryPath, SHARD_COUNT);
+        storage.saveEduLog(original);
+        assertEquals(original, new EduLog(new ShardedEduLogStorage(directoryPath, SHARD_COUNT).readEduLog().get()));
+
+        // a student added in the middle of the list keeps its place
+        original.setStudent(ALICE, HOON);
+        original.addStudent(IDA);
+        storage.saveEduLog(original);
+        assertEquals(original, new EduLog(new ShardedEduLogStorage(directoryPath, SHARD_COUNT).readEduLog().get()));
+        assertEquals(original, new EduLog(storage.readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_differentShardCount_success() throws Exception {
+        EduLog original = getTypicalEduLog();
+        new ShardedEduLogStorage(directoryPath, SHARD_COUNT).saveEduLog(original);
+        assertEquals(original, new EduLog(new ShardedEduLogStorage(directoryPath, 1).readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_oneStudentChanged_onlyItsShardRewritten() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        ShardedEduLogStorage storage = new ShardedEduLogStorage(directoryPath, SHARD_COUNT);
+        storage.saveEduLog(eduLog);
+        Map<Integer, byte[]> firstSave = readShardFiles();
+        Path lessonsPath = directoryPath.resolve(ShardedEduLogStorage.LESSONS_FILE_NAME);
+        byte[] firstLessons = Files.readAllBytes(lessonsPath);
+
+        // mark the saved files, so that any file rewritten is detected
+        for (int shardIndex : firstSave.keySet()) {
+            Files.write(ShardedEduLogStorage.getStudentShardPath(directoryPath, shardIndex), new byte[0]);
+        }
+        Files.write(lessonsPath, new byte[0]);
+
+        Student editedAlice = new StudentBuilder(ALICE).withFee(1).build();
+        eduLog.setStudent(ALICE, editedAlice);
+        storage.saveEduLog(eduLog);
+
+        int changedShard = ShardedEduLogStorage.getShardIndex(editedAlice, SHARD_COUNT);
+        Map<Integer, byte[]> secondSave = readShardFiles();
+        for (Map.Entry<Integer, byte[]> shard : secondSave.entrySet()) {
+            assertEquals(shard.getKey() == changedShard, shard.getValue().length > 0);
+        }
+        assertEquals(0, Files.size(lessonsPath));
+
+        // restore the unchanged files, so that the data can be read back
+        for (Map.Entry<Integer, byte[]> shard : firstSave.entrySet()) {
+            if (shard.getKey() != changedShard) {
+                Files.write(ShardedEduLogStorage.getStudentShardPath(directoryPath, shard.getKey()), shard.getValue());
+            }
+        }
+        Files.write(lessonsPath, firstLessons);
+        assertEquals(eduLog, new EduLog(new ShardedEduLogStorage(directoryPath, SHARD_COUNT).readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_studentMoved_onlyItsShardRewritten() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        ShardedEduLogStorage storage = new ShardedEduLogStorage(directoryPath, SHARD_COUNT);
+        storage.saveEduLog(eduLog);
+        Map<Integer, byte[]> firstSave = readShardFiles();
+
+        eduLog.removeStudent(ALICE);
+        eduLog.addStudent(ALICE);
+        storage.saveEduLog(eduLog);
+
+        int aliceShard = ShardedEduLogStorage.getShardIndex(ALICE, SHARD_COUNT);
+        for (Map.Entry<Integer, byte[]> shard : readShardFiles().entrySet()) {
+            assertEquals(shard.getKey() != aliceShard, Arrays.equals(firstSave.get(shard.getKey()), shard.getValue()));
+        }
+        assertEquals(eduLog, new EduLog(new ShardedEduLogStorage(directoryPath, SHARD_COUNT).readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_shardEmptied_fileDeleted() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        ShardedEduLogStorage storage = new ShardedEduLogStorage(directoryPath, SHARD_COUNT);
+        storage.saveEduLog(eduLog);
+        int aliceShard = ShardedEduLogStorage.getShardIndex(ALICE, SHARD_COUNT);
+        assertTrue(Files.exists(ShardedEduLogStorage.getStudentShardPath(directoryPath, aliceShard)));
+
+        for (Student student : getTypicalEduLog().getStudentList()) {
+            if (ShardedEduLogStorage.getShardIndex(student, SHARD_COUNT) == aliceShard) {
+                eduLog.removeStudent(student);
+            }
+        }
+        storage.saveEduLog(eduLog);
+
+        assertFalse(Files.exists(ShardedEduLogStorage.getStudentShardPath(directoryPath, aliceShard)));
+        assertEquals(eduLog, new EduLog(storage.readEduLog().get()));
+    }
+
+    @Test
+    public void saveEduLog_fewerShards_staleShardsDeleted() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        new ShardedEduLogStorage(directoryPath, 16).saveEduLog(eduLog);
+
+        new ShardedEduLogStorage(directoryPath, 2).saveEduLog(eduLog);
+
+        assertEquals(2, readShardFiles().size());
+        assertEquals(eduLog, new EduLog(new ShardedEduLogStorage(directoryPath, 2).readEduLog().get()));
+    }
+
+    @Test
+    public void readEduLog_duplicateStudentsAcrossShards_throwDataLoadingException() throws Exception {
+        EduLog eduLog = new EduLog();
+        eduLog.addStudent(ALICE);
+        new ShardedEduLogStorage(directoryPath, 1).saveEduLog(eduLog);
+        Path shardPath = ShardedEduLogStorage.getStudentShardPath(directoryPath, 0);
+        Files.copy(shardPath, ShardedEduLogStorage.getStudentShardPath(directoryPath, 1));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedEduLogStorage(directoryPath, 2).readEduLog());
+    }
+
+    @Test
+    public void readEduLog_invalidShard_throwDataLoadingException() throws Exception {
+        new ShardedEduLogStorage(directoryPath, SHARD_COUNT).saveEduLog(getTypicalEduLog());
+        int aliceShard = ShardedEduLogStorage.getShardIndex(ALICE, SHARD_COUNT);
+        Files.writeString(ShardedEduLogStorage.getStudentShardPath(directoryPath, aliceShard), "not json");
+
+        assertThrows(DataLoadingException.class, () -> new ShardedEduLogStorage(directoryPath, SHARD_COUNT)
+                .readEduLog());
+    }
+
+    @Test
+    public void readEduLog_nullRank_throwDataLoadingException() throws Exception {
+        EduLog eduLog = new EduLog();
+        eduLog.addStudent(ALICE);
+        new ShardedEduLogStorage(directoryPath, 1).saveEduLog(eduLog);
+        Path shardPath = ShardedEduLogStorage.getStudentShardPath(directoryPath, 0);
+        Files.writeString(shardPath, Files.readString(shardPath).replaceFirst("\"ranks\"\\s*:\\s*\\[\\s*\\d+",
+                "\"ranks\" : [ null"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedEduLogStorage(directoryPath, 1).readEduLog());
+    }
+
+    private Map<Integer, byte[]> readShardFiles() throws Exception {
+        Map<Integer, byte[]> shards = new HashMap<>();
+        for (int i = 0; i < 16; i++) {
+            Path shardPath = ShardedEduLogStorage.getStudentShardPath(directoryPath, i);
+            if (Files.exists(shardPath)) {
+                shards.put(i, Files.readAllBytes(shardPath));
+            }
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.edulog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalStudents.getTypicalStudents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.edulog.commons.exceptions.IllegalValueException;
+import seedu.edulog.model.student.Phone;
+import seedu.edulog.model.student.Student;
+import seedu.edulog.testutil.StudentBuilder;
+
+public class StudentListConverterTest {
+
+    private static final String INVALID_PHONE = "+651234";
+
+    @Test
+    public void convert_validStudents_success() throws Exception {
+        List<Student> students = getManyStudents(1000);
+        assertEquals(students, StudentListConverter.convert(adapt(students)));
+    }
+
+    @Test
+    public void convert_emptyList_success() throws Exception {
+        assertEquals(List.of(), StudentListConverter.convert(List.of()));
+    }
+
+    @Test
+    public void convert_invalidAndDuplicateStudents_allReported() {
+        List<JsonAdaptedStudent> adaptedStudents = adapt(getManyStudents(1000));
+        adaptedStudents.set(10, invalidPhone(adaptedStudents.get(10)));
+        adaptedStudents.set(500, new JsonAdaptedStudent(getManyStudents(1000).get(3)));
+        adaptedStudents.set(999, invalidPhone(adaptedStudents.get(999)));
+
+        String expectedMessage = String.join("\n",
+                String.format(StudentListConverter.MESSAGE_INVALID_STUDENTS, 3),
+                String.format(StudentListConverter.MESSAGE_INVALID_ROW, 11, Phone.MESSAGE_CONSTRAINTS),
+                String.format(StudentListConverter.MESSAGE_DUPLICATE_ROW, 501, 4),
+                String.format(StudentListConverter.MESSAGE_INVALID_ROW, 1000, Phone.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                StudentListConverter.convert(adaptedStudents));
+    }
+
+    @Test
+    public void getStudents_duplicatesAcrossBatches_reported() {
+        StudentListConverter converter = new StudentListConverter();
+        converter.add(adapt(getTypicalStudents()));
+        converter.add(adapt(getTypicalStudents().subList(0, 1)));
+
+        String expectedMessage = String.format(StudentListConverter.MESSAGE_INVALID_STUDENTS, 1) + "\n"
+                + String.format(StudentListConverter.MESSAGE_DUPLICATE_ROW, getTypicalStudents().size() + 1, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::getStudents);
+    }
+
+    @Test
+    public void getStudents_manyInvalidStudents_reportTruncated() {
+        List<JsonAdaptedStudent> adaptedStudents = new ArrayList<>();
+        for (JsonAdaptedStudent adaptedStudent : adapt(getManyStudents(StudentListConverter.MAX_REPORTED_ROWS + 5))) {
+            adaptedStudents.add(invalidPhone(adaptedStudent));
+        }
+
+        IllegalValueException e = Assertions.assertThrows(IllegalValueException.class, () ->
+                StudentListConverter.convert(adaptedStudents));
+        String[] lines = e.getMessage().split("\n");
+        assertEquals(StudentListConverter.MAX_REPORTED_ROWS + 2, lines.length);
+        assertEquals(String.format(StudentListConverter.MESSAGE_MORE_INVALID_ROWS, 5), lines[lines.length - 1]);
+    }
+
+    private static List<Student> getManyStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder().withName("Student " + i).withPhone(String.valueOf(90000000 + i))
+                    .build());
+        }
+        return students;
+    }
+
+    private static List<JsonAdaptedStudent> adapt(List<Student> students) {
+        return students.stream().map(JsonAdaptedStudent::new).collect(Collectors.toList());
+    }
+
+    private static JsonAdaptedStudent invalidPhone(JsonAdaptedStudent adaptedStudent) {
+        try {
+            Student student = adaptedStudent.toModelType();
+            return new JsonAdaptedStudent(student.getName().fullName, INVALID_PHONE, student.getEmail().value,
+                    student.getAddress().value, List.of(), String.valueOf(student.getHasPaid()),
+                    student.getFee().getFormattedString());
+        } catch (IllegalValueException ive) {
+            throw new AssertionError(ive);
+        }
+    }
+}
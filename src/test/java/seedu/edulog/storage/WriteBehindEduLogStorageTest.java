@@ -0,0 +1,174 @@
+package seedu.edulog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edulog.testutil.Assert.assertThrows;
+import static seedu.edulog.testutil.TypicalEdulog.getTypicalEduLog;
+import static seedu.edulog.testutil.TypicalStudents.ALICE;
+import static seedu.edulog.testutil.TypicalStudents.HOON;
+import static seedu.edulog.testutil.TypicalStudents.IDA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edulog.model.EduLog;
+import seedu.edulog.model.ReadOnlyEduLog;
+
+public class WriteBehindEduLogStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final QueuedExecutor executor = new QueuedExecutor();
+    private RecordingEduLogStorage recordingStorage;
+    private WriteBehindEduLogStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        recordingStorage = new RecordingEduLogStorage(testFolder.resolve("EduLog.json"));
+        storage = new WriteBehindEduLogStorage(recordingStorage, executor);
+    }
+
+    @Test
+    public void saveEduLog_burstOfSaves_latestSnapshotWrittenOnce() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        storage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        storage.saveEduLog(eduLog);
+        eduLog.addStudent(IDA);
+        storage.saveEduLog(eduLog);
+        EduLog expected = new EduLog(eduLog);
+
+        // changes made after the last save are not part of its snapshot
+        eduLog.removeStudent(ALICE);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+
+        assertEquals(List.of(expected), recordingStorage.saved);
+    }
+
+    @Test
+    public void saveEduLog_otherFile_savedImmediately() throws Exception {
+        Path otherFilePath = testFolder.resolve("Other.json");
+        storage.saveEduLog(getTypicalEduLog(), otherFilePath);
+
+        assertEquals(0, executor.tasks.size());
+        assertEquals(List.of(getTypicalEduLog()), recordingStorage.saved);
+    }
+
+    @Test
+    public void saveEduLog_earlierSaveFailed_failureThrownAndLatestSnapshotWritten() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        recordingStorage.isFailing = true;
+        storage.saveEduLog(eduLog);
+        executor.runAll();
+
+        recordingStorage.isFailing = false;
+        eduLog.addStudent(HOON);
+        assertThrows(IOException.class, RecordingEduLogStorage.FAILURE_MESSAGE, () -> storage.saveEduLog(eduLog));
+        executor.runAll();
+
+        // the failure is only reported once
+        storage.flushEduLog();
+        assertEquals(List.of(eduLog), recordingStorage.saved);
+    }
+
+    @Test
+    public void flushEduLog_saveFailed_failureThrown() throws Exception {
+        recordingStorage.isFailing = true;
+        storage.saveEduLog(getTypicalEduLog());
+        executor.runAll();
+        assertThrows(IOException.class, RecordingEduLogStorage.FAILURE_MESSAGE, () -> storage.flushEduLog());
+    }
+
+    @Test
+    public void flushEduLog_saveFailedOnce_failedSnapshotWrittenAgain() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        recordingStorage.isFailing = true;
+        storage.saveEduLog(eduLog);
+        executor.runAll();
+
+        recordingStorage.isFailing = false;
+        storage.flushEduLog();
+        assertEquals(List.of(eduLog), recordingStorage.saved);
+    }
+
+    @Test
+    public void checkEduLogSaved_saveFailed_failureThrownOnceAndSnapshotWrittenAgain() throws Exception {
+        EduLog eduLog = getTypicalEduLog();
+        storage.checkEduLogSaved();
+        recordingStorage.isFailing = true;
+        storage.saveEduLog(eduLog);
+        executor.runAll();
+
+        recordingStorage.isFailing = false;
+        assertThrows(IOException.class, RecordingEduLogStorage.FAILURE_MESSAGE, () -> storage.checkEduLogSaved());
+        storage.checkEduLogSaved();
+        executor.runAll();
+
+        assertEquals(List.of(eduLog), recordingStorage.saved);
+        storage.flushEduLog();
+        assertEquals(List.of(eduLog), recordingStorage.saved);
+    }
+
+    @Test
+    public void flushEduLog_backgroundThread_savesWritten() throws Exception {
+        Path filePath = testFolder.resolve("Background.json");
+        WriteBehindEduLogStorage backgroundStorage = new WriteBehindEduLogStorage(new JsonEduLogStorage(filePath));
+        EduLog eduLog = getTypicalEduLog();
+        backgroundStorage.saveEduLog(eduLog);
+        eduLog.addStudent(HOON);
+        backgroundStorage.saveEduLog(eduLog);
+
+        backgroundStorage.flushEduLog();
+        assertEquals(eduLog, new JsonEduLogStorage(filePath).readEduLog().get());
+    }
+
+    /**
+     * An executor that runs its tasks only when asked to.
+     */
+    private static class QueuedExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove().run();
+            }
+        }
+    }
+
+    /**
+     * A storage that keeps copies of the EduLogs saved to it, or fails to save them.
+     */
+    private static class RecordingEduLogStorage extends JsonEduLogStorage {
+        static final String FAILURE_MESSAGE = "dummy exception";
+
+        private final List<EduLog> saved = new ArrayList<>();
+        private boolean isFailing;
+
+        RecordingEduLogStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveEduLog(ReadOnlyEduLog eduLog, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException(FAILURE_MESSAGE);
+            }
+            saved.add(new EduLog(eduLog));
+        }
+    }
+}
@@ -115,7 +115,7 @@ public class StudentBuilder {
     }
 
     public Student build() {
-        return new Student(name, phone, email, address, tags, fee);
+        return new Student(name, phone, email, address, tags, hasPaid, fee);
     }
 
 }
@@ -0,0 +1,57 @@
+package seedu.edulog.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.edulog.testutil.TypicalStudents.ALICE;
+import static seedu.edulog.testutil.TypicalStudents.BENSON;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+
+public class StudentListPanelTest {
+
+    @BeforeAll
+    public static void startToolkit() {
+        boolean isStarted = true;
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // already started by another test
+        } catch (UnsupportedOperationException e) {
+            isStarted = false;
+        }
+        assumeTrue(isStarted, "JavaFX cannot start without a display");
+    }
+
+    @Test
+    public void updateItem_differentStudents_cardReused() {
+        StudentListPanel.StudentListViewCell cell =
+                new StudentListPanel(FXCollections.observableArrayList()).new StudentListViewCell();
+
+        cell.updateItem(ALICE, false);
+        Node card = cell.getGraphic();
+        assertEquals(ALICE.getName().fullName, getName(card));
+
+        cell.updateItem(BENSON, false);
+        assertSame(card, cell.getGraphic());
+        assertEquals(BENSON.getName().fullName, getName(card));
+
+        cell.updateItem(null, true);
+        assertNull(cell.getGraphic());
+
+        cell.updateItem(ALICE, false);
+        assertSame(card, cell.getGraphic());
+        assertEquals(ALICE.getName().fullName, getName(card));
+    }
+
+    private static String getName(Node card) {
+        return ((Label) card.lookup("#name")).getText();
+    }
+}